@@ -0,0 +1,70 @@
+package com.seasonthon.everflow.app.global.security;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JwtService 토큰 검증 방식 비교
+ * - perCallVerifier: 기존 방식 (호출마다 Algorithm/JWTVerifier 생성, 요청당 여러 번 검증)
+ * - sharedVerifier: 미리 생성한 검증기로 요청당 한 번 검증
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtVerifyBenchmark {
+
+    private static final String SECRET_KEY = "benchmark-secret-key-benchmark-secret-key";
+
+    // 기존 필터 흐름에서 한 요청이 같은 토큰을 검증하던 횟수 (검증 + 이메일 추출 + userId 추출)
+    private static final int VERIFICATIONS_PER_REQUEST = 3;
+
+    private String token;
+    private JWTVerifier sharedVerifier;
+
+    @Setup
+    public void setUp() {
+        Algorithm algorithm = Algorithm.HMAC512(SECRET_KEY);
+        token = JWT.create()
+                .withSubject("AccessToken")
+                .withExpiresAt(new Date(System.currentTimeMillis() + 3_600_000L))
+                .withClaim("email", "user@everflow.com")
+                .withClaim("userId", 1L)
+                .withClaim("role", "ROLE_USER")
+                .sign(algorithm);
+        sharedVerifier = JWT.require(algorithm).build();
+    }
+
+    @Benchmark
+    public void perCallVerifier(Blackhole blackhole) {
+        for (int i = 0; i < VERIFICATIONS_PER_REQUEST; i++) {
+            blackhole.consume(JWT.require(Algorithm.HMAC512(SECRET_KEY)).build().verify(token));
+        }
+    }
+
+    @Benchmark
+    public void sharedVerifier(Blackhole blackhole) {
+        DecodedJWT decodedJWT = sharedVerifier.verify(token);
+        blackhole.consume(decodedJWT.getClaim("email").asString());
+        blackhole.consume(decodedJWT.getClaim("userId").asLong());
+    }
+}
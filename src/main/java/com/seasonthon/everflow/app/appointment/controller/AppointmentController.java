@@ -6,12 +6,14 @@ import com.seasonthon.everflow.app.appointment.service.AppointmentService;
 import com.seasonthon.everflow.app.global.code.dto.ApiResponse;
 import com.seasonthon.everflow.app.global.code.status.SuccessStatus;
 import com.seasonthon.everflow.app.global.oauth.domain.CustomUserDetails;
+import com.seasonthon.everflow.app.global.web.ConditionalGet;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import jakarta.validation.Valid;
 import java.net.URI;
@@ -47,12 +49,11 @@ public class AppointmentController {
     public ResponseEntity<ApiResponse<AppointmentResponseDto.AppointmentMonthResponseDto>> getMonthAppointment(
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @RequestParam int year,
-            @RequestParam int month) {
-
-        AppointmentResponseDto.AppointmentMonthResponseDto resultDto =
-                appointmentService.getMonthAppointment(userDetails, year, month);
+            @RequestParam int month,
+            WebRequest request) {
 
-        return ResponseEntity.ok(ApiResponse.of(SuccessStatus.OK, resultDto));
+        return ConditionalGet.respond(request, appointmentService.getMonthAppointmentVersion(userDetails, year, month),
+                () -> appointmentService.getMonthAppointment(userDetails, year, month));
     }
 
     @Operation(summary = "일별 약속 조회", description = "해당 일자에 등록된 약속들을 반환합니다. participantNum은 외 @명에 들어가는 값으로, 총 참여자 수 -1명을 반환합니다.")
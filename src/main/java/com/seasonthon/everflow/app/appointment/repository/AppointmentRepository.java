@@ -25,4 +25,16 @@ public interface AppointmentRepository extends JpaRepository<Appointment, Long>
             @Param("familyId") Long familyId,
             @Param("startOfMonth") LocalDateTime startOfMonth,
             @Param("endOfMonth") LocalDateTime endOfMonth);
+
+    /**
+     * 특정 기간과 겹치는 약속들의 최종 수정 시각과 개수 (조건부 GET 버전 계산용)
+     */
+    @Query("SELECT MAX(COALESCE(a.updatedAt, a.createdAt)), COUNT(a) FROM Appointment a " +
+            "WHERE a.family.id = :familyId " +
+            "AND a.startTime <= :endOfMonth " +
+            "AND a.endTime >= :startOfMonth")
+    List<Object[]> findVersionOverlappingWithDateRange(
+            @Param("familyId") Long familyId,
+            @Param("startOfMonth") LocalDateTime startOfMonth,
+            @Param("endOfMonth") LocalDateTime endOfMonth);
 }
@@ -11,8 +11,10 @@ import com.seasonthon.everflow.app.global.code.status.ErrorStatus;
 import com.seasonthon.everflow.app.global.oauth.domain.CustomUserDetails;
 import com.seasonthon.everflow.app.global.oauth.service.AuthService;
 import com.seasonthon.everflow.app.notification.domain.NotificationType;
+import com.seasonthon.everflow.app.notification.event.NotificationEvent;
 import com.seasonthon.everflow.app.notification.repository.NotificationRepository;
 import com.seasonthon.everflow.app.notification.service.NotificationService;
+import com.seasonthon.everflow.app.notification.service.NotificationSummaryCache;
 import com.seasonthon.everflow.app.user.domain.User;
 import com.seasonthon.everflow.app.user.repository.UserRepository;
 import com.seasonthon.everflow.app.global.exception.GeneralException;
@@ -38,6 +40,7 @@ public class AppointmentService {
     private final NotificationService notificationService;
     private final AuthService authService;
     private final NotificationRepository notificationRepository;
+    private final NotificationSummaryCache notificationSummaryCache;
 
     @Transactional
     public AppointmentResponseDto.AppointmentAddResponseDto addAppointment(AppointmentRequestDto.AppointmentAddRequestDto requestDto, Long proposeUserId) {
@@ -86,15 +89,34 @@ public class AppointmentService {
 
         // 6. 알림 발송
         String link = "/api/appointments/" + savedAppointment.getId() + "participant";
-        participants.forEach(participantUser -> {
-            String contentText = String.format("%s님이 %s에게 약속을 신청했어요.", proposeUser.getNickname(), participantUser.getNickname());
-            notificationService.sendNotification(participantUser, NotificationType.APPOINTMENT_ACTION, contentText, link);
-        });
+        List<NotificationEvent.Recipient> recipients = participants.stream()
+                .map(participantUser -> new NotificationEvent.Recipient(
+                        participantUser.getId(),
+                        String.format("%s님이 %s에게 약속을 신청했어요.", proposeUser.getNickname(), participantUser.getNickname())))
+                .toList();
+        notificationService.publish(new NotificationEvent(NotificationType.APPOINTMENT_ACTION, link, recipients));
 
         // 7. 생성된 약속의 ID 반환
         return new AppointmentResponseDto.AppointmentAddResponseDto(savedAppointment.getId(), savedAppointment.getName());
     }
 
+    /**
+     * 월별 약속 조회 응답의 버전 키 (해당 월과 겹치는 약속의 최종 수정 시각/개수)
+     */
+    public String getMonthAppointmentVersion(CustomUserDetails userDetails, int year, int month) {
+        Long familyId = authService.getFamilyId(userDetails);
+
+        if (month < 1 || month > 12) {
+            throw new GeneralException(ErrorStatus.INVALID_MONTH_PARAMETER);
+        }
+
+        YearMonth yearMonth = YearMonth.of(year, month);
+        List<Object[]> rows = appointmentRepository.findVersionOverlappingWithDateRange(
+                familyId, yearMonth.atDay(1).atStartOfDay(), yearMonth.atEndOfMonth().atTime(23, 59, 59));
+        Object[] row = rows.isEmpty() ? new Object[]{null, 0L} : rows.get(0);
+        return familyId + ":" + yearMonth + ":" + row[0] + ":" + row[1];
+    }
+
     public AppointmentResponseDto.AppointmentMonthResponseDto getMonthAppointment(CustomUserDetails userDetails, int year, int month) {
         Long familyId = authService.getFamilyId(userDetails);
 
@@ -230,6 +252,7 @@ public class AppointmentService {
                 .ifPresent(notification -> {
                     notification.markAsRead();
                     notificationRepository.save(notification);
+                    notificationSummaryCache.evict(userId);
                 });
 
 
@@ -1,11 +1,13 @@
 package com.seasonthon.everflow.app.bookshelf.controller;
 
+import com.seasonthon.everflow.app.bookshelf.dto.BookshelfFamilyViewDto;
 import com.seasonthon.everflow.app.bookshelf.dto.BookshelfUserViewDto;
 import com.seasonthon.everflow.app.bookshelf.dto.BookshelfAnswersUpsertRequestDto;
 import com.seasonthon.everflow.app.bookshelf.service.BookshelfService;
 import com.seasonthon.everflow.app.global.code.dto.ApiResponse;
 import com.seasonthon.everflow.app.global.oauth.domain.CustomUserDetails;
 import com.seasonthon.everflow.app.global.oauth.service.AuthService;
+import com.seasonthon.everflow.app.global.web.ConditionalGet;
 import com.seasonthon.everflow.app.bookshelf.dto.BookshelfEntryDto;
 import com.seasonthon.everflow.app.bookshelf.dto.CustomBookshelfQuestionCreateRequestDto;
 import jakarta.validation.Valid;
@@ -14,8 +16,10 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/bookshelf")
@@ -33,6 +37,17 @@ public class BookshelfController {
         return ApiResponse.onSuccess(bookshelfService.getMyShelf(meId));
     }
 
+    @Operation(summary = "가족 전체 책장 조회", description = "가족 구성원 전체의 책장을 한 번에 조회합니다. If-None-Match가 현재 ETag와 같으면 본문 없이 304를 반환합니다.")
+    @GetMapping("/family")
+    public ResponseEntity<ApiResponse<BookshelfFamilyViewDto>> getFamilyShelves(
+            @AuthenticationPrincipal CustomUserDetails me,
+            WebRequest request
+    ) {
+        Long meId = authService.getUserId(me);
+        return ConditionalGet.respond(request, bookshelfService.getFamilyShelfVersion(meId),
+                () -> bookshelfService.getFamilyShelves(meId));
+    }
+
     @Operation(summary = "가족 책장 조회", description = "같은 가족 구성원의 책장을 조회합니다. (기본 질문 + 가족 커스텀 질문 전체, 해당 사용자의 답변 포함)")
     @GetMapping("/{userId}")
     public ApiResponse<BookshelfUserViewDto> getUserShelf(
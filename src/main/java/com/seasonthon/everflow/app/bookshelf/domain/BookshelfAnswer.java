@@ -12,7 +12,8 @@ import java.time.LocalDateTime;
         uniqueConstraints = @UniqueConstraint(
                 name = "UK_bookshelf_question_user",
                 columnNames = {"question_id", "user_id"}
-        )
+        ),
+        indexes = @Index(name = "idx_bookshelf_answers_user", columnList = "user_id")
 )
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
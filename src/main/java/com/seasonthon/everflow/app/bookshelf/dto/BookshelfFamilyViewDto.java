@@ -0,0 +1,12 @@
+package com.seasonthon.everflow.app.bookshelf.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+public record BookshelfFamilyViewDto(
+        @Schema(description = "가족 ID", example = "7")
+        Long familyId,
+
+        @Schema(description = "가족 구성원별 책장 (가입 순)")
+        List<BookshelfUserViewDto> members
+) {}
@@ -0,0 +1,53 @@
+package com.seasonthon.everflow.app.bookshelf.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class BookshelfAnswerJdbcRepository {
+
+    // UK_bookshelf_question_user(question_id, user_id) 충돌 시 갱신
+    // 답변이 실제로 바뀐 경우에만 updated_at 갱신 (answer보다 먼저 평가되어야 함)
+    private static final String UPSERT_SQL =
+            "INSERT INTO bookshelf_answers (question_id, user_id, answer, created_at) " +
+            "VALUES (?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "updated_at = IF(answer <=> VALUES(answer), updated_at, VALUES(created_at)), " +
+            "answer = VALUES(answer)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 사용자의 책장 답변(questionId -> answer)을 하나의 JDBC batch로 upsert 한다.
+     */
+    public void upsertAll(Long userId, Map<Long, String> answers) {
+        List<Map.Entry<Long, String>> entries = new ArrayList<>(answers.entrySet());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(UPSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Map.Entry<Long, String> entry = entries.get(i);
+                ps.setLong(1, entry.getKey());
+                ps.setLong(2, userId);
+                ps.setString(3, entry.getValue());
+                ps.setTimestamp(4, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return entries.size();
+            }
+        });
+    }
+}
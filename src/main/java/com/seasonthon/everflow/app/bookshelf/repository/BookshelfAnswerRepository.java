@@ -15,6 +15,12 @@ public interface BookshelfAnswerRepository extends JpaRepository<BookshelfAnswer
 
     List<BookshelfAnswer> findAllByUserIdAndQuestionIdIn(Long userId, List<Long> questionIds);
 
+    List<BookshelfAnswer> findAllByUserIdInAndQuestionIdIn(List<Long> userIds, List<Long> questionIds);
+
+    // 가족 책장 버전 계산용 (최종 수정 시각, 답변 수)
+    @Query("select max(coalesce(ba.updatedAt, ba.createdAt)), count(ba) from BookshelfAnswer ba where ba.user.id in :userIds")
+    List<Object[]> findVersionByUserIds(@org.springframework.data.repository.query.Param("userIds") List<Long> userIds);
+
     long deleteByQuestionId(Long questionId);
 
     void deleteAllByUserId(Long userId);
@@ -0,0 +1,113 @@
+package com.seasonthon.everflow.app.bookshelf.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.seasonthon.everflow.app.bookshelf.domain.BookshelfQuestion;
+import com.seasonthon.everflow.app.bookshelf.domain.QuestionScope;
+import com.seasonthon.everflow.app.bookshelf.repository.BookshelfQuestionRepository;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 책장 질문 카탈로그
+ * - BASE 질문: DefaultBookshelfSeeder 실행 이후(ApplicationReadyEvent) 한 번 읽어 불변 목록으로 보관한다.
+ * - CUSTOM 질문: 가족별로 캐시하며, 질문 추가/삭제 시 커밋 이후 무효화한다.
+ */
+@Component
+public class BookshelfQuestionCatalog {
+
+    private final BookshelfQuestionRepository questionRepository;
+
+    private volatile List<QuestionEntry> baseQuestions;
+
+    private final Cache<Long, List<QuestionEntry>> customQuestions = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofMinutes(30))
+            .build();
+
+    public BookshelfQuestionCatalog(BookshelfQuestionRepository questionRepository) {
+        this.questionRepository = questionRepository;
+    }
+
+    /**
+     * 질문 스냅샷 (책장 응답에 쓰이는 id, 본문만 보관)
+     */
+    public record QuestionEntry(Long id, String questionText) {
+
+        static QuestionEntry of(BookshelfQuestion q) {
+            return new QuestionEntry(q.getId(), q.getQuestionText());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadBaseQuestions() {
+        this.baseQuestions = load(questionRepository.findAllByScope(QuestionScope.BASE));
+    }
+
+    public List<QuestionEntry> baseQuestions() {
+        List<QuestionEntry> base = this.baseQuestions;
+        if (base == null) {
+            // 애플리케이션 준비 이전 호출 대비
+            loadBaseQuestions();
+            base = this.baseQuestions;
+        }
+        return base;
+    }
+
+    public List<QuestionEntry> customQuestions(Long familyId) {
+        if (familyId == null) {
+            return List.of();
+        }
+        return customQuestions.get(familyId,
+                id -> load(questionRepository.findAllByScopeAndFamily_Id(QuestionScope.CUSTOM, id)));
+    }
+
+    /**
+     * 가족이 볼 수 있는 전체 질문 (BASE + 가족 CUSTOM, id 오름차순)
+     */
+    public List<QuestionEntry> questionsFor(Long familyId) {
+        List<QuestionEntry> base = baseQuestions();
+        List<QuestionEntry> customs = customQuestions(familyId);
+        if (customs.isEmpty()) {
+            return base;
+        }
+        List<QuestionEntry> merged = new ArrayList<>(base.size() + customs.size());
+        merged.addAll(base);
+        merged.addAll(customs);
+        merged.sort(Comparator.comparingLong(QuestionEntry::id));
+        return merged;
+    }
+
+    /**
+     * 가족 CUSTOM 질문 변경 시 무효화 (트랜잭션 안이면 커밋 이후)
+     */
+    public void evictCustomQuestions(Long familyId) {
+        if (familyId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    customQuestions.invalidate(familyId);
+                }
+            });
+            return;
+        }
+        customQuestions.invalidate(familyId);
+    }
+
+    private List<QuestionEntry> load(List<BookshelfQuestion> questions) {
+        return questions.stream()
+                .sorted(Comparator.comparingLong(BookshelfQuestion::getId))
+                .map(QuestionEntry::of)
+                .toList();
+    }
+}
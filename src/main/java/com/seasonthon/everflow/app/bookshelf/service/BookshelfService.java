@@ -5,11 +5,14 @@ import com.seasonthon.everflow.app.bookshelf.domain.BookshelfQuestion;
 import com.seasonthon.everflow.app.bookshelf.domain.QuestionScope;
 import com.seasonthon.everflow.app.bookshelf.dto.BookshelfAnswersUpsertRequestDto;
 import com.seasonthon.everflow.app.bookshelf.dto.BookshelfEntryDto;
+import com.seasonthon.everflow.app.bookshelf.dto.BookshelfFamilyViewDto;
 import com.seasonthon.everflow.app.bookshelf.dto.BookshelfUserViewDto;
 import com.seasonthon.everflow.app.bookshelf.dto.CustomBookshelfQuestionCreateRequestDto;
+import com.seasonthon.everflow.app.bookshelf.repository.BookshelfAnswerJdbcRepository;
 import com.seasonthon.everflow.app.bookshelf.repository.BookshelfAnswerRepository;
 import com.seasonthon.everflow.app.bookshelf.repository.BookshelfQuestionRepository;
 import com.seasonthon.everflow.app.family.domain.Family;
+import com.seasonthon.everflow.app.family.service.FamilyRosterCache;
 import com.seasonthon.everflow.app.global.code.status.ErrorStatus;
 import com.seasonthon.everflow.app.global.exception.GeneralException;
 import com.seasonthon.everflow.app.global.oauth.service.AuthService;
@@ -21,6 +24,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -31,8 +35,11 @@ public class BookshelfService {
 
     private final BookshelfQuestionRepository questionRepository;
     private final BookshelfAnswerRepository answerRepository;
+    private final BookshelfAnswerJdbcRepository answerJdbcRepository;
     private final UserRepository userRepository;
     private final AuthService authService;
+    private final BookshelfQuestionCatalog questionCatalog;
+    private final FamilyRosterCache familyRosterCache;
 
     public BookshelfUserViewDto getMyShelf(Long meId) {
         User me = userRepository.findById(meId)
@@ -41,23 +48,72 @@ public class BookshelfService {
     }
 
     public BookshelfUserViewDto getUserShelf(Long requesterId, Long targetUserId) {
-        User requester = userRepository.findById(requesterId)
-                .orElseThrow(() -> new GeneralException(ErrorStatus.USER_NOT_FOUND));
+        Long requesterFamilyId = authService.getFamilyId(requesterId);
         User target = userRepository.findById(targetUserId)
                 .orElseThrow(() -> new GeneralException(ErrorStatus.USER_NOT_FOUND));
 
-        Long requesterFamilyId = authService.getFamilyId(requesterId);
-        Long targetFamilyId = authService.getFamilyId(targetUserId);
+        Long targetFamilyId = (target.getFamily() != null) ? target.getFamily().getId() : null;
         if (!Objects.equals(requesterFamilyId, targetFamilyId)) {
             throw new GeneralException(ErrorStatus.FORBIDDEN);
         }
         return buildUserShelf(target);
     }
 
+    /**
+     * 가족 구성원 전체의 책장 (질문은 카탈로그, 답변은 구성원 전체 1회 조회)
+     */
+    public BookshelfFamilyViewDto getFamilyShelves(Long meId) {
+        Long familyId = authService.getFamilyId(meId);
+        FamilyRosterCache.FamilyRoster roster = familyRosterCache.get(familyId);
+        List<BookshelfQuestionCatalog.QuestionEntry> questions = questionCatalog.questionsFor(familyId);
+
+        List<Long> userIds = roster.members().stream().map(FamilyRosterCache.Member::userId).toList();
+        List<Long> qids = questions.stream().map(BookshelfQuestionCatalog.QuestionEntry::id).toList();
+
+        // userId -> (questionId -> answer)
+        Map<Long, Map<Long, BookshelfAnswer>> answersByUser = new HashMap<>();
+        if (!userIds.isEmpty() && !qids.isEmpty()) {
+            answerRepository.findAllByUserIdInAndQuestionIdIn(userIds, qids)
+                    .forEach(a -> answersByUser
+                            .computeIfAbsent(a.getUser().getId(), k -> new HashMap<>())
+                            .put(a.getQuestion().getId(), a));
+        }
+
+        List<BookshelfUserViewDto> members = roster.members().stream()
+                .map(m -> toUserView(m.userId(), m.nickname(), questions,
+                        answersByUser.getOrDefault(m.userId(), Collections.emptyMap())))
+                .toList();
+        return new BookshelfFamilyViewDto(familyId, members);
+    }
+
+    /**
+     * 가족 책장 응답의 버전 키 (구성원 목록, 질문 목록, 답변 최종 수정 시각/개수가 같으면 동일)
+     */
+    public String getFamilyShelfVersion(Long meId) {
+        Long familyId = authService.getFamilyId(meId);
+        FamilyRosterCache.FamilyRoster roster = familyRosterCache.get(familyId);
+        List<BookshelfQuestionCatalog.QuestionEntry> questions = questionCatalog.questionsFor(familyId);
+        List<Long> userIds = roster.members().stream().map(FamilyRosterCache.Member::userId).toList();
+
+        long lastModified = 0;
+        long answerCount = 0;
+        if (!userIds.isEmpty()) {
+            List<Object[]> rows = answerRepository.findVersionByUserIds(userIds);
+            if (!rows.isEmpty() && rows.get(0)[0] != null) {
+                lastModified = ((LocalDateTime) rows.get(0)[0])
+                        .atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+                answerCount = ((Number) rows.get(0)[1]).longValue();
+            }
+        }
+        return String.format("%d:%x:%x:%d:%d",
+                familyId, roster.version(), questions.hashCode(), lastModified, answerCount);
+    }
+
     @Transactional
     public void writeMyAnswers(Long meId, BookshelfAnswersUpsertRequestDto req) {
-        User me = userRepository.findById(meId)
-                .orElseThrow(() -> new GeneralException(ErrorStatus.USER_NOT_FOUND));
+        if (!userRepository.existsById(meId)) {
+            throw new GeneralException(ErrorStatus.USER_NOT_FOUND);
+        }
 
         if (req == null || req.items() == null) {
             throw new GeneralException(ErrorStatus.BOOKSHELF_INVALID_PARAMETER);
@@ -69,37 +125,21 @@ public class BookshelfService {
         }
         if (payload.isEmpty()) return;
 
-        List<Long> qids = new ArrayList<>(payload.keySet());
-        List<BookshelfQuestion> questions = questionRepository.findAllById(qids);
-        Map<Long, BookshelfQuestion> qmap = questions.stream()
-                .collect(Collectors.toMap(BookshelfQuestion::getId, q -> q));
-        List<Long> notFound = qids.stream().filter(id -> !qmap.containsKey(id)).toList();
-        if (!notFound.isEmpty()) {
-            throw new GeneralException(ErrorStatus.BOOKSHELF_QUESTION_NOT_FOUND);
-        }
-
-        Long myFamilyId = authService.getFamilyId(me.getId());
-        for (BookshelfQuestion q : questions) {
-            if (q.getScope() == QuestionScope.CUSTOM) {
-                Family fam = q.getFamily();
-                if (fam == null || fam.getId() == null || !Objects.equals(fam.getId(), myFamilyId)) {
-                    throw new GeneralException(ErrorStatus.FORBIDDEN);
-                }
+        Long myFamilyId = authService.getFamilyId(meId);
+        Set<Long> allowed = questionCatalog.questionsFor(myFamilyId).stream()
+                .map(BookshelfQuestionCatalog.QuestionEntry::id)
+                .collect(Collectors.toSet());
+        List<Long> unknown = payload.keySet().stream().filter(id -> !allowed.contains(id)).toList();
+        if (!unknown.isEmpty()) {
+            // 카탈로그에 없는 질문: 존재하지 않으면 404, 다른 가족의 질문이면 403
+            if (questionRepository.findAllById(unknown).size() < unknown.size()) {
+                throw new GeneralException(ErrorStatus.BOOKSHELF_QUESTION_NOT_FOUND);
             }
+            throw new GeneralException(ErrorStatus.FORBIDDEN);
         }
 
-        for (Long qid : qids) {
-            BookshelfQuestion q = qmap.get(qid);
-            String ans = payload.get(qid);
-            BookshelfAnswer a = answerRepository.findByQuestionIdAndUserId(qid, me.getId())
-                    .orElseGet(() -> BookshelfAnswer.builder()
-                            .question(q)
-                            .user(me)
-                            .answer(null)
-                            .build());
-            a.updateAnswer(ans);
-            answerRepository.save(a);
-        }
+        // 질문 수와 관계없이 한 번의 batch로 저장 (기존 답변은 UK 충돌로 갱신)
+        answerJdbcRepository.upsertAll(meId, payload);
     }
 
     @Transactional
@@ -117,6 +157,7 @@ public class BookshelfService {
             BookshelfQuestion saved = questionRepository.save(
                     BookshelfQuestion.custom(req.question(), "TEXT", null, family, user)
             );
+            questionCatalog.evictCustomQuestions(familyId);
             return new BookshelfEntryDto(saved.getId(), saved.getQuestionText(), null);
         } catch (DataIntegrityViolationException e) {
             throw new GeneralException(ErrorStatus.DUPLICATE_RESOURCE);
@@ -143,22 +184,18 @@ public class BookshelfService {
 
         answerRepository.deleteByQuestionId(questionId);
         questionRepository.delete(q);
+        questionCatalog.evictCustomQuestions(familyId);
     }
 
     private BookshelfUserViewDto buildUserShelf(User user) {
-        Long familyId = authService.getFamilyId(user.getId());
-
-        List<BookshelfQuestion> base = questionRepository.findAllByScope(QuestionScope.BASE);
-        List<BookshelfQuestion> customs = (familyId != null)
-                ? questionRepository.findAllByScopeAndFamily_Id(QuestionScope.CUSTOM, familyId)
-                : Collections.emptyList();
+        if (user.getFamily() == null) {
+            throw new GeneralException(ErrorStatus.FAMILY_NOT_FOUND);
+        }
+        Long familyId = user.getFamily().getId();
 
-        List<BookshelfQuestion> questions = new ArrayList<>(base.size() + customs.size());
-        questions.addAll(base);
-        questions.addAll(customs);
-        questions.sort(Comparator.comparingLong(BookshelfQuestion::getId));
+        List<BookshelfQuestionCatalog.QuestionEntry> questions = questionCatalog.questionsFor(familyId);
 
-        List<Long> qids = questions.stream().map(BookshelfQuestion::getId).toList();
+        List<Long> qids = questions.stream().map(BookshelfQuestionCatalog.QuestionEntry::id).toList();
 
         Map<Long, BookshelfAnswer> answerMap = new HashMap<>();
         if (!qids.isEmpty()) {
@@ -166,23 +203,31 @@ public class BookshelfService {
                     .forEach(a -> answerMap.put(a.getQuestion().getId(), a));
         }
 
+        return toUserView(user.getId(), user.getNickname(), questions, answerMap);
+    }
+
+    private BookshelfUserViewDto toUserView(Long userId,
+                                            String nickname,
+                                            List<BookshelfQuestionCatalog.QuestionEntry> questions,
+                                            Map<Long, BookshelfAnswer> answerMap) {
         List<BookshelfEntryDto> items = new ArrayList<>();
         LocalDateTime lastUpdatedAt = null;
 
-        for (BookshelfQuestion q : questions) {
-            BookshelfAnswer a = answerMap.get(q.getId());
+        for (BookshelfQuestionCatalog.QuestionEntry q : questions) {
+            BookshelfAnswer a = answerMap.get(q.id());
             if (a != null) {
                 LocalDateTime t = (a.getUpdatedAt() != null) ? a.getUpdatedAt() : a.getCreatedAt();
                 if (t != null && (lastUpdatedAt == null || t.isAfter(lastUpdatedAt))) {
                     lastUpdatedAt = t;
                 }
             }
-            items.add(new BookshelfEntryDto(q.getId(), q.getQuestionText(), a != null ? a.getAnswer() : null));
+            items.add(new BookshelfEntryDto(q.id(), q.questionText(), a != null ? a.getAnswer() : null));
         }
 
-        return new BookshelfUserViewDto(user.getId(), user.getNickname(), lastUpdatedAt, items);
+        return new BookshelfUserViewDto(userId, nickname, lastUpdatedAt, items);
     }
 
+
     private String normalize(String s) {
         if (s == null) return null;
         String t = s.trim();
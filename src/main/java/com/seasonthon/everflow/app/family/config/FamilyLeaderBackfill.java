@@ -0,0 +1,43 @@
+package com.seasonthon.everflow.app.family.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * families.leader_id 도입 이전에 생성된 가족의 가족장을 채운다.
+ * - 가장 먼저 가입한 구성원(created_at, id 순)을 가족장으로 지정한다.
+ * - leader_id가 비어있는 행만 갱신하므로 재실행해도 안전하다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FamilyLeaderBackfill implements CommandLineRunner {
+
+    private static final String BACKFILL_SQL = """
+            UPDATE families f
+               SET f.leader_id = (
+                   SELECT u.id
+                     FROM users u
+                    WHERE u.family_id = f.id
+                    ORDER BY u.created_at IS NULL, u.created_at, u.id
+                    LIMIT 1
+               )
+             WHERE f.leader_id IS NULL
+               AND EXISTS (SELECT 1 FROM users m WHERE m.family_id = f.id)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public void run(String... args) {
+        int updated = jdbcTemplate.update(BACKFILL_SQL);
+        if (updated > 0) {
+            log.info("가족장 backfill 완료: {}개 가족", updated);
+        }
+    }
+}
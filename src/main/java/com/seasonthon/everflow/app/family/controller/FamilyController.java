@@ -14,14 +14,17 @@ import com.seasonthon.everflow.app.family.service.FamilyService;
 import com.seasonthon.everflow.app.global.code.dto.ApiResponse;
 import com.seasonthon.everflow.app.global.code.status.ErrorStatus;
 import com.seasonthon.everflow.app.global.oauth.domain.CustomUserDetails;
+import com.seasonthon.everflow.app.global.web.ConditionalGet;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @Tag(name = "Family API", description = "가족 관리 API")
 @RestController
@@ -79,13 +82,15 @@ public class FamilyController {
 
     @Operation(summary = "내 가족 구성원 정보 조회", description = "현재 로그인한 사용자의 가족 구성원 정보를 조회합니다.")
     @GetMapping("/my/members")
-    public ApiResponse<FamilyMembersResponseDto> getFamilyMembers(
-            @AuthenticationPrincipal CustomUserDetails userDetails) {
+    public ResponseEntity<ApiResponse<FamilyMembersResponseDto>> getFamilyMembers(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            WebRequest request) {
         if (userDetails == null) {
-            return ApiResponse.onFailure("AUTH401", "인증 정보가 없습니다.", null);
+            return ResponseEntity.ok(ApiResponse.onFailure("AUTH401", "인증 정보가 없습니다.", null));
         }
-        FamilyMembersResponseDto response = familyService.getFamilyMembers(userDetails.getUserId());
-        return ApiResponse.onSuccess(response);
+        Long userId = userDetails.getUserId();
+        return ConditionalGet.respond(request, familyService.getFamilyMembersVersion(userId),
+                () -> familyService.getFamilyMembers(userId));
     }
 
     @Operation(summary = "가입 요청 승인", description = "가족 생성자가 대기중인 가입 요청을 승인합니다.")
@@ -13,7 +13,10 @@ import java.util.List;
 import java.util.Random;
 
 @Entity
-@Table(name = "families")
+@Table(
+        name = "families",
+        indexes = @Index(name = "idx_families_leader_id", columnList = "leader_id")
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Family {
@@ -35,6 +38,10 @@ public class Family {
     @Column(name = "verification_answer")
     private String verificationAnswer;
 
+    /* 가족장(가장 먼저 가입한 구성원) ID - 권한 확인 시 구성원 목록을 불러오지 않기 위해 저장 */
+    @Column(name = "leader_id")
+    private Long leaderId;
+
     @OrderBy("createdAt ASC")   // createdAt 기준 오름차순 정렬
     @OneToMany(mappedBy = "family", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<User> members = new ArrayList<>();
@@ -50,6 +57,18 @@ public class Family {
     public void addMember(User user) {
         this.members.add(user);
         user.setFamily(this);
+        if (this.leaderId == null) {
+            this.leaderId = user.getId();
+        }
+    }
+
+    public boolean isLeader(Long userId) {
+        return leaderId != null && leaderId.equals(userId);
+    }
+
+    /* 가족장 위임 (남은 구성원이 없으면 null) */
+    public void changeLeader(Long userId) {
+        this.leaderId = userId;
     }
 
     private String generateInviteCode() {
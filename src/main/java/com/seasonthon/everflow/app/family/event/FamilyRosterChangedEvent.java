@@ -0,0 +1,8 @@
+package com.seasonthon.everflow.app.family.event;
+
+/**
+ * 가족 구성원 목록(가입/탈퇴) 또는 구성원 프로필(닉네임, 프로필 이미지)이 바뀌었음을 알리는 이벤트
+ * - 커밋 이후 FamilyRosterCache에서 해당 가족의 캐시를 무효화한다.
+ */
+public record FamilyRosterChangedEvent(Long familyId) {
+}
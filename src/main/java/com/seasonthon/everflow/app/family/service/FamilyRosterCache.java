@@ -0,0 +1,117 @@
+package com.seasonthon.everflow.app.family.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.seasonthon.everflow.app.family.domain.Family;
+import com.seasonthon.everflow.app.family.event.FamilyRosterChangedEvent;
+import com.seasonthon.everflow.app.family.repository.FamilyRepository;
+import com.seasonthon.everflow.app.user.domain.User;
+import com.seasonthon.everflow.app.user.repository.UserRepository;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 가족별 구성원 목록 캐시 (가족 이름, 가족장, 구성원 id/닉네임/프로필/책장 색상)
+ * - 가입/승인, 가족 정보 수정, 닉네임/프로필 변경, 회원 탈퇴 시 발행되는 FamilyRosterChangedEvent로 커밋 이후 무효화한다.
+ * - 다른 노드에서의 변경은 만료 시간 안에 반영된다.
+ */
+@Component
+public class FamilyRosterCache {
+
+    private static final Comparator<User> JOIN_ORDER = Comparator
+            .comparing(User::getCreatedAt, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(User::getId);
+
+    private final UserRepository userRepository;
+    private final FamilyRepository familyRepository;
+
+    private final Cache<Long, FamilyRoster> cache = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .build();
+
+    public FamilyRosterCache(UserRepository userRepository, FamilyRepository familyRepository) {
+        this.userRepository = userRepository;
+        this.familyRepository = familyRepository;
+    }
+
+    public record Member(Long userId, String nickname, String profileUrl, String shelfColor) {}
+
+    /**
+     * members는 가입 순서(createdAt, id)로 정렬되어 있다.
+     */
+    public record FamilyRoster(Long familyId, String familyName, Long leaderId, List<Member> members) {
+
+        /**
+         * 가족 이름/가족장/구성원 프로필이 같으면 같은 값 (조건부 GET 버전 키)
+         */
+        public int version() {
+            return Objects.hash(familyName, leaderId, members);
+        }
+
+        public boolean isLeader(Long userId) {
+            return leaderId != null && leaderId.equals(userId);
+        }
+
+        public Member leader() {
+            return members.stream()
+                    .filter(m -> m.userId().equals(leaderId))
+                    .findFirst()
+                    .orElse(null);
+        }
+
+        public List<Long> memberIdsExcept(Long userId) {
+            return members.stream()
+                    .map(Member::userId)
+                    .filter(id -> !id.equals(userId))
+                    .toList();
+        }
+
+        public boolean isEmpty() {
+            return members.isEmpty();
+        }
+
+        public int size() {
+            return members.size();
+        }
+    }
+
+    public FamilyRoster get(Long familyId) {
+        Objects.requireNonNull(familyId, "familyId");
+        return cache.get(familyId, this::load);
+    }
+
+    public void evict(Long familyId) {
+        if (familyId != null) {
+            cache.invalidate(familyId);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRosterChanged(FamilyRosterChangedEvent event) {
+        evict(event.familyId());
+    }
+
+    private FamilyRoster load(Long familyId) {
+        List<Member> members = userRepository.findAllByFamilyId(familyId).stream()
+                .sorted(JOIN_ORDER)
+                .map(u -> new Member(
+                        u.getId(),
+                        u.getNickname(),
+                        u.getProfileUrl(),
+                        u.getShelfColor() != null ? u.getShelfColor().name() : null
+                ))
+                .toList();
+        Optional<Family> family = familyRepository.findById(familyId);
+        Long leaderId = family.map(Family::getLeaderId)
+                .orElseGet(() -> members.isEmpty() ? null : members.get(0).userId());
+        String familyName = family.map(Family::getFamilyName).orElse(null);
+        return new FamilyRoster(familyId, familyName, leaderId, members);
+    }
+}
@@ -13,24 +13,29 @@ import com.seasonthon.everflow.app.family.dto.FamilyVerificationDetailResponseDt
 import com.seasonthon.everflow.app.family.dto.FamilyVerificationResponseDto;
 import com.seasonthon.everflow.app.family.dto.JoinAttemptResponseDto;
 import com.seasonthon.everflow.app.family.dto.PendingJoinRequestDto;
+import com.seasonthon.everflow.app.family.event.FamilyRosterChangedEvent;
 import com.seasonthon.everflow.app.family.repository.FamilyJoinRequestRepository;
 import com.seasonthon.everflow.app.family.repository.FamilyRepository;
 import com.seasonthon.everflow.app.global.code.status.ErrorStatus;
 import com.seasonthon.everflow.app.global.code.status.SuccessStatus;
+import com.seasonthon.everflow.app.global.context.MemberContext;
 import com.seasonthon.everflow.app.global.exception.GeneralException;
+import com.seasonthon.everflow.app.global.security.UserClaimsRegistry;
 import com.seasonthon.everflow.app.notification.domain.NotificationType;
 import com.seasonthon.everflow.app.notification.domain.ReadStatus;
+import com.seasonthon.everflow.app.notification.event.NotificationEvent;
 import com.seasonthon.everflow.app.notification.repository.NotificationRepository;
 import com.seasonthon.everflow.app.notification.service.NotificationService;
+import com.seasonthon.everflow.app.notification.service.NotificationSummaryCache;
 import com.seasonthon.everflow.app.user.domain.RoleType;
 import com.seasonthon.everflow.app.user.domain.User;
 import com.seasonthon.everflow.app.user.repository.UserRepository;
 import com.seasonthon.everflow.app.memo.domain.Memo;
 import com.seasonthon.everflow.app.memo.repository.MemoRepository;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -46,7 +51,12 @@ public class FamilyService {
     private final UserRepository userRepository;
     private final NotificationService notificationService;
     private final NotificationRepository notificationRepository;
+    private final NotificationSummaryCache notificationSummaryCache;
+    private final UserClaimsRegistry userClaimsRegistry;
+    private final MemberContext memberContext;
     private final MemoRepository memoRepository;
+    private final FamilyRosterCache familyRosterCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     public void createFamily(Long userId, FamilyCreateRequestDto request) {
         User user = userRepository.findById(userId)
@@ -63,6 +73,8 @@ public class FamilyService {
         /* 가족 구성원 추가 및 역할 업데이트 */
         family.addMember(user);
         user.updateRole(RoleType.ROLE_USER);
+        userClaimsRegistry.markChanged(user.getId());
+        memberContext.refresh();
 
         /* 가족 먼저 저장 (ID 확보) */
         Family savedFamily = familyRepository.save(family);
@@ -71,6 +83,7 @@ public class FamilyService {
         if (!memoRepository.existsByFamilyId(savedFamily.getId())) {
             memoRepository.save(Memo.create(savedFamily.getId()));
         }
+        eventPublisher.publishEvent(new FamilyRosterChangedEvent(savedFamily.getId()));
     }
 
     @Transactional
@@ -120,6 +133,8 @@ public class FamilyService {
         /* 기존 가족(레거시)에 메모가 없을 경우 보강 생성 */
         family.addMember(user);
         user.updateRole(RoleType.ROLE_USER);
+        userClaimsRegistry.markChanged(user.getId());
+        memberContext.refresh();
         user.resetFamilyJoinAttempts();
         userRepository.save(user);
         familyRepository.save(family);
@@ -127,6 +142,7 @@ public class FamilyService {
         if (!memoRepository.existsByFamilyId(family.getId())) {
             memoRepository.save(Memo.create(family.getId()));
         }
+        eventPublisher.publishEvent(new FamilyRosterChangedEvent(family.getId()));
         notifyFamilyResponse(family, user);
         return new JoinAttemptResponseDto(true, false, SuccessStatus.OK);
     }
@@ -149,38 +165,27 @@ public class FamilyService {
 
     @Transactional(readOnly = true)
     public FamilyMembersResponseDto getFamilyMembers(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new GeneralException(ErrorStatus.USER_NOT_FOUND));
+        FamilyRosterCache.FamilyRoster roster = familyRosterCache.get(requireFamilyId(userId));
+        boolean isCreator = roster.isLeader(userId);
 
-        Family family = user.getFamily();
-        if (family == null) {
-            throw new GeneralException(ErrorStatus.FAMILY_NOT_FOUND);
-        }
-
-        boolean isCreator = family.getMembers().stream()
-                .min(
-                        java.util.Comparator
-                                .comparing(User::getCreatedAt, java.util.Comparator.nullsLast(java.util.Comparator.naturalOrder()))
-                                .thenComparing(User::getId)
-                )
-                .map(u -> u.getId().equals(user.getId()))
-                .orElse(false);
-
-        List<FamilyMembersResponseDto.MemberInfo> memberInfos = family.getMembers().stream()
-                .sorted(
-                        java.util.Comparator.comparing(
-                                User::getCreatedAt,
-                                java.util.Comparator.nullsLast(java.util.Comparator.naturalOrder())
-                        )
-                )
+        List<FamilyMembersResponseDto.MemberInfo> memberInfos = roster.members().stream()
                 .map(member -> new FamilyMembersResponseDto.MemberInfo(
-                        member.getNickname(),
-                        member.getProfileUrl(),
-                        member.getId()   // email 대신 Long id 반환
+                        member.nickname(),
+                        member.profileUrl(),
+                        member.userId()   // email 대신 Long id 반환
                 ))
                 .toList();
 
-        return new FamilyMembersResponseDto(family.getFamilyName(), isCreator, memberInfos);
+        return new FamilyMembersResponseDto(roster.familyName(), isCreator, memberInfos);
+    }
+
+    /**
+     * 가족 구성원 조회 응답의 버전 키 (isCreator가 요청자별로 다르므로 userId 포함)
+     */
+    @Transactional(readOnly = true)
+    public String getFamilyMembersVersion(Long userId) {
+        FamilyRosterCache.FamilyRoster roster = familyRosterCache.get(requireFamilyId(userId));
+        return roster.familyId() + ":" + userId + ":" + roster.version();
     }
 
     @Transactional(readOnly = true)
@@ -191,12 +196,7 @@ public class FamilyService {
         if (family == null) {
             throw new GeneralException(ErrorStatus.NOT_IN_FAMILY_YET);
         }
-        var creator = family.getMembers().stream()
-                .min(java.util.Comparator.comparing(User::getCreatedAt))
-                .orElseThrow(() -> new GeneralException(ErrorStatus.FAMILY_NOT_FOUND));
-        if (!creator.getId().equals(approverId)) {
-            throw new GeneralException(ErrorStatus.FORBIDDEN);
-        }
+        requireLeader(family, approverId);
         return familyJoinRequestRepository.findAllByFamilyIdAndStatus(family.getId(), JoinStatus.PENDING)
                 .stream()
                 .map(req -> new PendingJoinRequestDto(
@@ -219,15 +219,11 @@ public class FamilyService {
                 .ifPresent(notification -> {
                     notification.markAsRead();
                     notificationRepository.save(notification);
+                    notificationSummaryCache.evict(approverId);
                 });
 
         Family family = joinRequest.getFamily();
-        var creator = family.getMembers().stream()
-                .min(java.util.Comparator.comparing(User::getCreatedAt))
-                .orElseThrow(() -> new GeneralException(ErrorStatus.FAMILY_NOT_FOUND));
-        if (!creator.getId().equals(approverId)) {
-            throw new GeneralException(ErrorStatus.FORBIDDEN);
-        }
+        requireLeader(family, approverId);
         if (joinRequest.getStatus() != JoinStatus.PENDING) {
             throw new GeneralException(ErrorStatus.REQUEST_NOT_FOUND);
         }
@@ -235,6 +231,8 @@ public class FamilyService {
         /* 메모 기능 도입 이전에 생성된 가족의 경우 보강 생성 */
         family.addMember(user);
         user.updateRole(RoleType.ROLE_USER);
+        userClaimsRegistry.markChanged(user.getId());
+        memberContext.refresh();
         joinRequest.approve();
         familyJoinRequestRepository.save(joinRequest);
         userRepository.save(user);
@@ -243,6 +241,7 @@ public class FamilyService {
         if (!memoRepository.existsByFamilyId(family.getId())) {
             memoRepository.save(Memo.create(family.getId()));
         }
+        eventPublisher.publishEvent(new FamilyRosterChangedEvent(family.getId()));
     }
 
     public void rejectJoinRequest(Long approverId, Long requestId) {
@@ -256,15 +255,11 @@ public class FamilyService {
                 .ifPresent(notification -> {
                     notification.markAsRead();
                     notificationRepository.save(notification);
+                    notificationSummaryCache.evict(approverId);
                 });
 
         Family family = joinRequest.getFamily();
-        var creator = family.getMembers().stream()
-                .min(java.util.Comparator.comparing(User::getCreatedAt))
-                .orElseThrow(() -> new GeneralException(ErrorStatus.FAMILY_NOT_FOUND));
-        if (!creator.getId().equals(approverId)) {
-            throw new GeneralException(ErrorStatus.FORBIDDEN);
-        }
+        requireLeader(family, approverId);
         if (joinRequest.getStatus() != JoinStatus.PENDING) {
             throw new GeneralException(ErrorStatus.REQUEST_NOT_FOUND);
         }
@@ -283,14 +278,7 @@ public class FamilyService {
         if (family == null) {
             throw new GeneralException(ErrorStatus.NOT_IN_FAMILY_YET);
         }
-        User leader = family.getMembers().stream()
-                .min(java.util.Comparator
-                        .comparing(User::getCreatedAt, java.util.Comparator.nullsLast(java.util.Comparator.naturalOrder()))
-                        .thenComparing(User::getId))
-                .orElseThrow(() -> new GeneralException(ErrorStatus.FAMILY_NOT_FOUND));
-        if (!leader.getId().equals(userId)) {
-            throw new GeneralException(ErrorStatus.FORBIDDEN);
-        }
+        requireLeader(family, userId);
         if (req.getFamilyName() != null && !req.getFamilyName().isBlank()) {
             family.updateFamilyName(req.getFamilyName().trim());
         }
@@ -304,6 +292,7 @@ public class FamilyService {
             family.updateVerification(family.getVerificationQuestion(), req.getVerificationAnswer().trim());
         }
         familyRepository.save(family);
+        eventPublisher.publishEvent(new FamilyRosterChangedEvent(family.getId()));
         return new FamilyInfoResponseDto(
                 family.getInviteCode(),
                 family.getFamilyName(),
@@ -312,6 +301,11 @@ public class FamilyService {
         );
     }
 
+    private Long requireFamilyId(Long userId) {
+        return memberContext.familyIdOf(userId)
+                .orElseThrow(() -> new GeneralException(ErrorStatus.FAMILY_NOT_FOUND));
+    }
+
     private FamilyJoinRequest upsertPendingJoinRequest(Family family, User user, int targetAttempts) {
         FamilyJoinRequest jr = familyJoinRequestRepository
                 .findByFamilyIdAndUserId(family.getId(), user.getId())
@@ -324,27 +318,34 @@ public class FamilyService {
     }
 
     private void notifyFamilyAction(Family family, User actor, Long requestId) {
-        User creator = family.getMembers().stream()
-                .min(java.util.Comparator.comparing(User::getCreatedAt))
-                .orElseThrow(() -> new GeneralException(ErrorStatus.FAMILY_NOT_FOUND));
+        Long leaderId = family.getLeaderId();
+        if (leaderId == null) {
+            throw new GeneralException(ErrorStatus.FAMILY_NOT_FOUND);
+        }
 
         String link = "/family/pending/" + requestId;
         String contentText = String.format("%s님이 가족 가입에 %d회 연속 실패했습니다. 가입 요청을 확인해주세요.", actor.getNickname(), MAX_ATTEMPTS);
 
-        notificationService.sendNotification(
-                creator, NotificationType.FAMILY_ACTION, contentText, link
+        notificationService.publish(
+                NotificationEvent.of(NotificationType.FAMILY_ACTION, contentText, link, List.of(leaderId))
         );
     }
 
+    /* 가족장만 허용 (families.leader_id 비교) */
+    private void requireLeader(Family family, Long userId) {
+        if (family.getLeaderId() == null) {
+            throw new GeneralException(ErrorStatus.FAMILY_NOT_FOUND);
+        }
+        if (!family.isLeader(userId)) {
+            throw new GeneralException(ErrorStatus.FORBIDDEN);
+        }
+    }
+
     private void notifyFamilyResponse(Family family, User newMember) {
-        List<User> members = userRepository.findAllByFamilyId(family.getId());
+        List<Long> recipientIds = familyRosterCache.get(family.getId()).memberIdsExcept(newMember.getId());
         String link = "";
         String contentText = String.format("%s님이 %s에 입장했어요.", newMember.getNickname(), family.getFamilyName());
-        members.stream()
-                .filter(m -> !m.getId().equals(newMember.getId()))
-                .forEach(recipient -> notificationService.sendNotification(
-                        recipient, NotificationType.FAMILY_RESPONSE, contentText, link
-                ));
+        notificationService.publish(NotificationEvent.of(NotificationType.FAMILY_RESPONSE, contentText, link, recipientIds));
     }
 
     @Transactional(readOnly = true)
@@ -355,25 +356,20 @@ public class FamilyService {
     @Transactional(readOnly = true)
     public Optional<FamilyVerificationDetailResponseDto> getFamilyDetailByCode(String inviteCode) {
         return familyRepository.findByInviteCode(inviteCode).map(family -> {
-            List<User> members = userRepository.findAllByFamilyId(family.getId());
-
-            User leader = members.stream()
-                    .min(Comparator
-                            .comparing(User::getCreatedAt, Comparator.nullsLast(Comparator.naturalOrder()))
-                            .thenComparing(User::getId))
-                    .orElse(null);
+            FamilyRosterCache.FamilyRoster roster = familyRosterCache.get(family.getId());
+            FamilyRosterCache.Member leader = roster.leader();
 
             if (leader == null) return null;
 
-            List<String> profileUrls = members.stream()
-                    .map(User::getProfileUrl)
+            List<String> profileUrls = roster.members().stream()
+                    .map(FamilyRosterCache.Member::profileUrl)
                     .toList();
 
             return new FamilyVerificationDetailResponseDto(
                     family.getFamilyName(),
-                    leader.getNickname(),
+                    leader.nickname(),
                     profileUrls,
-                    members.size()
+                    roster.size()
             );
         });
     }
@@ -1,26 +1,55 @@
 package com.seasonthon.everflow.app.global.config;
 
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.jwk.source.JWKSourceBuilder;
+import com.nimbusds.jose.proc.SecurityContext;
+import java.net.MalformedURLException;
+import java.net.URI;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.oauth2.jwt.JwtDecoder;
-import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 
+/**
+ * 소셜 로그인 ID 토큰 검증용 JWK Set
+ * - TTL 동안 캐시하고, 만료 전에 백그라운드에서 미리 갱신(refresh-ahead)하여
+ *   로그인 요청이 공급자 JWKS 호출을 기다리지 않도록 한다.
+ * - URI는 설정으로 바꿀 수 있어 로컬 JWKS 서버로 대체해 테스트할 수 있다.
+ */
 @Configuration
 public class JwtConfig {
 
+    @Value("${oauth.jwk.cache-ttl:3600000}")
+    private long cacheTtl;
+
+    @Value("${oauth.jwk.refresh-ahead:300000}")
+    private long refreshAhead;
+
+    @Value("${oauth.jwk.refresh-timeout:5000}")
+    private long refreshTimeout;
+
     @Bean
-    public JwtDecoder googleJwtDecoder() {
-        String jwkSetUri = "https://www.googleapis.com/oauth2/v3/certs";
-        return NimbusJwtDecoder.withJwkSetUri(jwkSetUri).build();
+    public JWKSource<SecurityContext> googleJwkSource(
+            @Value("${oauth.jwk.google-uri:https://www.googleapis.com/oauth2/v3/certs}") String jwkSetUri) throws MalformedURLException {
+        return buildJwkSource(jwkSetUri);
     }
+
     @Bean
-    public JwtDecoder kakaoJwtDecoder() {
-        String kakaoJwkSetUri = "https://kauth.kakao.com/.well-known/jwks.json";
-        return NimbusJwtDecoder.withJwkSetUri(kakaoJwkSetUri).build();
+    public JWKSource<SecurityContext> kakaoJwkSource(
+            @Value("${oauth.jwk.kakao-uri:https://kauth.kakao.com/.well-known/jwks.json}") String jwkSetUri) throws MalformedURLException {
+        return buildJwkSource(jwkSetUri);
     }
+
     @Bean
-    public JwtDecoder appleJwtDecoder() {
-        String appleJwkSetUri = "https://appleid.apple.com/auth/keys";
-        return NimbusJwtDecoder.withJwkSetUri(appleJwkSetUri).build();
+    public JWKSource<SecurityContext> appleJwkSource(
+            @Value("${oauth.jwk.apple-uri:https://appleid.apple.com/auth/keys}") String jwkSetUri) throws MalformedURLException {
+        return buildJwkSource(jwkSetUri);
+    }
+
+    private JWKSource<SecurityContext> buildJwkSource(String jwkSetUri) throws MalformedURLException {
+        return JWKSourceBuilder.<SecurityContext>create(URI.create(jwkSetUri).toURL())
+                .cache(cacheTtl, refreshTimeout)
+                .refreshAheadCache(refreshAhead, true)
+                .retrying(true)
+                .build();
     }
 }
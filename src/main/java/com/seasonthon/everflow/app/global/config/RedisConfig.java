@@ -0,0 +1,23 @@
+package com.seasonthon.everflow.app.global.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * everflow.redis.enabled=true 일 때만 Redis pub/sub 구독 컨테이너를 등록한다.
+ * - 각 기능의 Subscriber가 이 컨테이너에 채널을 등록해 사용
+ */
+@Configuration
+@ConditionalOnProperty(name = "everflow.redis.enabled", havingValue = "true")
+public class RedisConfig {
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+}
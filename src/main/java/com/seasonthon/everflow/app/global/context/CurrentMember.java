@@ -0,0 +1,13 @@
+package com.seasonthon.everflow.app.global.context;
+
+import com.seasonthon.everflow.app.user.domain.RoleType;
+
+/**
+ * 현재 요청의 로그인 사용자 정보 (familyId는 가족이 없으면 null)
+ */
+public record CurrentMember(Long userId, Long familyId, RoleType roleType) {
+
+    public boolean hasFamily() {
+        return familyId != null;
+    }
+}
@@ -0,0 +1,90 @@
+package com.seasonthon.everflow.app.global.context;
+
+import com.seasonthon.everflow.app.global.code.status.ErrorStatus;
+import com.seasonthon.everflow.app.global.exception.GeneralException;
+import com.seasonthon.everflow.app.global.oauth.domain.CustomUserDetails;
+import com.seasonthon.everflow.app.user.repository.UserRepository;
+import java.util.Objects;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * 요청 단위로 로그인 사용자의 userId / familyId / role을 한 번만 조회해 재사용한다.
+ * - userId, role은 인증 주체에서, familyId는 users.family_id 단일 컬럼 조회로 얻는다.
+ * - HTTP 요청 밖(스케줄러, 비동기)에서는 매번 조회한다.
+ * - 사용자가 없으면 USER_NOT_FOUND, 가족이 없으면 familyId가 비어 있는 것으로 구분한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberContext {
+
+    private static final String CURRENT_MEMBER_ATTRIBUTE = MemberContext.class.getName() + ".CURRENT_MEMBER";
+
+    private final UserRepository userRepository;
+
+    /**
+     * 현재 요청의 로그인 사용자 (인증되지 않은 요청이면 empty)
+     */
+    public Optional<CurrentMember> current() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            Object cached = attributes.getAttribute(CURRENT_MEMBER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+            if (cached instanceof CurrentMember member) {
+                return Optional.of(member);
+            }
+        }
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof CustomUserDetails me)) {
+            return Optional.empty();
+        }
+
+        CurrentMember member = new CurrentMember(
+                me.getUserId(),
+                loadFamilyId(me.getUserId()).orElse(null),
+                me.getRoleType()
+        );
+        if (attributes != null) {
+            attributes.setAttribute(CURRENT_MEMBER_ATTRIBUTE, member, RequestAttributes.SCOPE_REQUEST);
+        }
+        return Optional.of(member);
+    }
+
+    /**
+     * 사용자의 familyId (현재 로그인 사용자면 요청 내 캐시 사용)
+     * @throws GeneralException 사용자가 없으면 USER_NOT_FOUND
+     */
+    public Optional<Long> familyIdOf(Long userId) {
+        Optional<CurrentMember> current = current();
+        if (current.isPresent() && Objects.equals(current.get().userId(), userId)) {
+            return Optional.ofNullable(current.get().familyId());
+        }
+        return loadFamilyId(userId);
+    }
+
+    /**
+     * 가족 가입/탈퇴 등으로 소속이 바뀐 경우 다음 조회에서 다시 읽도록 비운다.
+     */
+    public void refresh() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.removeAttribute(CURRENT_MEMBER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    /**
+     * familyId 단일 컬럼 조회 (비어 있을 때만 사용자 존재 여부를 확인해 "사용자 없음"과 "가족 없음"을 구분)
+     */
+    private Optional<Long> loadFamilyId(Long userId) {
+        Optional<Long> familyId = userRepository.findFamilyIdById(userId);
+        if (familyId.isEmpty() && !userRepository.existsById(userId)) {
+            throw new GeneralException(ErrorStatus.USER_NOT_FOUND);
+        }
+        return familyId;
+    }
+}
@@ -6,9 +6,16 @@ import lombok.Getter;
 @Getter
 public class GeneralException extends RuntimeException {
     private final BaseErrorCode code;
+    // 에러 응답의 data로 함께 내려줄 값 (예: 버전 충돌 시 최신 리소스)
+    private final Object data;
 
     public GeneralException(BaseErrorCode code) {
+        this(code, null);
+    }
+
+    public GeneralException(BaseErrorCode code, Object data) {
         super(code.getMessage());
         this.code = code;
+        this.data = data;
     }
 }
@@ -99,11 +99,11 @@ public class ExceptionAdvice extends ResponseEntityExceptionHandler {
     }
 
     @ExceptionHandler(GeneralException.class)
-    protected ResponseEntity<ApiResponse<Void>> handleGeneral(GeneralException ex) {
+    protected ResponseEntity<ApiResponse<Object>> handleGeneral(GeneralException ex) {
         BaseErrorCode ec = ex.getCode();
         return ResponseEntity
                 .status(ec.getHttpStatus())
-                .body(ApiResponse.of(ec, null));
+                .body(ApiResponse.of(ec, ex.getData()));
     }
 
     @ExceptionHandler(Exception.class)
@@ -3,6 +3,7 @@ package com.seasonthon.everflow.app.global.oauth.service;
 import com.seasonthon.everflow.app.global.code.dto.LoginResponseDto;
 import com.seasonthon.everflow.app.global.code.dto.UserInfoResponseDto;
 import com.seasonthon.everflow.app.global.code.status.ErrorStatus;
+import com.seasonthon.everflow.app.global.context.MemberContext;
 import com.seasonthon.everflow.app.global.exception.GeneralException;
 import com.seasonthon.everflow.app.global.oauth.domain.CustomUserDetails;
 import com.seasonthon.everflow.app.global.security.JwtService;
@@ -29,6 +30,8 @@ public class AuthService {
     private final IdTokenService idTokenService;
     private final JwtService jwtService;
     private final TokenBlacklistService tokenBlacklistService;
+    private final RefreshTokenService refreshTokenService;
+    private final MemberContext memberContext;
 
     /** 쓰기 */
     @Transactional
@@ -41,10 +44,8 @@ public class AuthService {
 
         // 우리 서비스의 Access/Refresh 토큰을 생성합니다.
         String accessToken = jwtService.createAccessToken(email, userId, roleType);
-        String refreshToken = jwtService.createRefreshToken();
-
-        // Refresh 토큰을 데이터베이스에 저장합니다.
-        jwtService.updateRefreshToken(email, refreshToken);
+        // Refresh 토큰은 refresh_tokens에 digest로 저장합니다.
+        String refreshToken = refreshTokenService.issue(userId);
 
         // 생성된 토큰들을 반환합니다.
         return new LoginResponseDto(accessToken, refreshToken);
@@ -102,42 +103,33 @@ public class AuthService {
 
         String roleType = user.getRoleType().toString();
         String accessToken = jwtService.createAccessToken(user.getEmail(), user.getId(), roleType);
-        String refreshToken = jwtService.createRefreshToken();
-        jwtService.updateRefreshToken(user.getEmail(), refreshToken);
+        String refreshToken = refreshTokenService.issue(user.getId());
 
         return new LoginResponseDto(accessToken, refreshToken);
     }
 
     /** 쓰기 */
-    @Transactional
     public LoginResponseDto reissue(String refreshToken) {
         if (refreshToken == null || refreshToken.isBlank()) {
             throw new GeneralException(ErrorStatus.MISSING_PARAMETER);
         }
-        if (!jwtService.isTokenValid(refreshToken)) {
-            throw new GeneralException(ErrorStatus.INVALID_TOKEN);
-        }
 
-        User user = userRepository.findByRefreshToken(refreshToken)
-                .orElseThrow(() -> new GeneralException(ErrorStatus.INVALID_TOKEN));
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(refreshToken);
+        User user = rotation.user();
 
         String newAccessToken = jwtService.createAccessToken(
                 user.getEmail(), user.getId(), user.getRoleType().toString()
         );
-        String newRefreshToken = jwtService.createRefreshToken();
-
-        jwtService.updateRefreshToken(user.getEmail(), newRefreshToken);
 
-        return new LoginResponseDto(newAccessToken, newRefreshToken);
+        return new LoginResponseDto(newAccessToken, rotation.refreshToken());
     }
 
     /** 읽기 */
     @Transactional(readOnly = true)
     public Long getFamilyId(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new GeneralException(ErrorStatus.USER_NOT_FOUND));
-        if (user.getFamily() == null) throw new GeneralException(ErrorStatus.FAMILY_NOT_FOUND);
-        return user.getFamily().getId();
+        // 로그인 사용자는 요청 내에서 한 번만 조회
+        return memberContext.familyIdOf(userId)
+                .orElseThrow(() -> new GeneralException(ErrorStatus.FAMILY_NOT_FOUND));
     }
 
     /** 읽기 */
@@ -0,0 +1,98 @@
+package com.seasonthon.everflow.app.global.oauth.service;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.BadJOSEException;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.nimbusds.jwt.proc.DefaultJWTClaimsVerifier;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import com.seasonthon.everflow.app.global.code.status.ErrorStatus;
+import com.seasonthon.everflow.app.global.exception.GeneralException;
+import com.seasonthon.everflow.app.user.domain.SocialType;
+import java.text.ParseException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 소셜 로그인 ID 토큰 검증
+ * - 토큰을 한 번만 파싱해 issuer로 공급자를 고르고, 같은 파싱 결과로 서명/클레임을 검증한다.
+ */
+@Slf4j
+@Component
+public class IdTokenVerifier {
+
+    private static final Map<String, SocialType> ISSUERS = Map.of(
+            "https://kauth.kakao.com", SocialType.KAKAO,
+            "https://accounts.google.com", SocialType.GOOGLE,
+            "https://appleid.apple.com", SocialType.APPLE
+    );
+
+    private final Map<SocialType, JWKSource<SecurityContext>> jwkSources = new EnumMap<>(SocialType.class);
+    private final Map<SocialType, DefaultJWTProcessor<SecurityContext>> processors = new EnumMap<>(SocialType.class);
+
+    public record VerifiedIdToken(SocialType socialType, Map<String, Object> claims) {}
+
+    public IdTokenVerifier(@Qualifier("kakaoJwkSource") JWKSource<SecurityContext> kakaoJwkSource,
+                           @Qualifier("googleJwkSource") JWKSource<SecurityContext> googleJwkSource,
+                           @Qualifier("appleJwkSource") JWKSource<SecurityContext> appleJwkSource) {
+        jwkSources.put(SocialType.KAKAO, kakaoJwkSource);
+        jwkSources.put(SocialType.GOOGLE, googleJwkSource);
+        jwkSources.put(SocialType.APPLE, appleJwkSource);
+
+        ISSUERS.forEach((issuer, socialType) ->
+                processors.put(socialType, buildProcessor(issuer, jwkSources.get(socialType))));
+    }
+
+    public VerifiedIdToken verify(String idToken) {
+        try {
+            SignedJWT signedJWT = SignedJWT.parse(idToken);
+            SocialType socialType = ISSUERS.get(signedJWT.getJWTClaimsSet().getIssuer());
+            if (socialType == null) {
+                throw new GeneralException(ErrorStatus.INVALID_TOKEN);
+            }
+
+            JWTClaimsSet claims = processors.get(socialType).process(signedJWT, null);
+            return new VerifiedIdToken(socialType, claims.getClaims());
+        } catch (ParseException | BadJOSEException | JOSEException e) {
+            log.warn("ID 토큰 인증 오류: {}", e.getMessage());
+            throw new GeneralException(ErrorStatus.INVALID_TOKEN);
+        }
+    }
+
+    /**
+     * 기동 직후 JWK Set을 미리 받아 첫 로그인이 JWKS 호출을 기다리지 않도록 한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void prefetchJwkSets() {
+        JWKSelector selector = new JWKSelector(new JWKMatcher.Builder().build());
+        jwkSources.forEach((socialType, jwkSource) -> {
+            try {
+                jwkSource.get(selector, null);
+            } catch (Exception e) {
+                log.warn("JWK Set 사전 조회 실패 ({}): {}", socialType, e.getMessage());
+            }
+        });
+    }
+
+    private static DefaultJWTProcessor<SecurityContext> buildProcessor(String issuer, JWKSource<SecurityContext> jwkSource) {
+        DefaultJWTProcessor<SecurityContext> processor = new DefaultJWTProcessor<>();
+        processor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.RS256, jwkSource));
+        processor.setJWTClaimsSetVerifier(new DefaultJWTClaimsVerifier<>(
+                new JWTClaimsSet.Builder().issuer(issuer).build(),
+                Set.of("sub", "exp")
+        ));
+        return processor;
+    }
+}
@@ -0,0 +1,103 @@
+package com.seasonthon.everflow.app.global.oauth.service;
+
+import com.seasonthon.everflow.app.global.code.status.ErrorStatus;
+import com.seasonthon.everflow.app.global.exception.GeneralException;
+import com.seasonthon.everflow.app.global.security.JwtService;
+import com.seasonthon.everflow.app.global.security.TokenDigest;
+import com.seasonthon.everflow.app.user.domain.RefreshToken;
+import com.seasonthon.everflow.app.user.domain.RefreshTokenStatus;
+import com.seasonthon.everflow.app.user.domain.User;
+import com.seasonthon.everflow.app.user.repository.RefreshTokenRepository;
+import com.seasonthon.everflow.app.user.repository.UserRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Refresh Token 발급/재발급(rotation)
+ * - 토큰 digest(unique index)로 조회하므로 users 테이블을 스캔하거나 잠그지 않는다.
+ * - 이미 교체된 토큰이 다시 사용되면 탈취로 보고 같은 체인(family)의 토큰을 모두 폐기한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final JwtService jwtService;
+
+    public record Rotation(User user, String refreshToken) {}
+
+    /** 쓰기: 로그인 시 새 체인으로 발급 */
+    @Transactional
+    public String issue(Long userId) {
+        return issue(userId, UUID.randomUUID().toString());
+    }
+
+    /**
+     * 쓰기: Refresh Token으로 새 Refresh Token을 발급하고 기존 토큰은 교체 처리
+     * 재사용이 감지되어 체인을 폐기한 경우에도 폐기 내역은 커밋되어야 하므로 롤백하지 않음
+     */
+    @Transactional(noRollbackFor = GeneralException.class)
+    public Rotation rotate(String refreshToken) {
+        if (!jwtService.isTokenValid(refreshToken)) {
+            throw new GeneralException(ErrorStatus.INVALID_TOKEN);
+        }
+
+        RefreshToken stored = refreshTokenRepository.findByTokenHash(TokenDigest.sha256(refreshToken))
+                .orElse(null);
+        if (stored == null) {
+            return rotateLegacy(refreshToken);
+        }
+
+        if (stored.getStatus() != RefreshTokenStatus.ACTIVE
+                || refreshTokenRepository.updateStatusIfActive(stored.getId(), RefreshTokenStatus.ROTATED) == 0) {
+            int revoked = refreshTokenRepository.revokeFamily(stored.getFamilyId());
+            log.warn("Refresh Token 재사용 감지: userId={}, family={}, 폐기 {}건", stored.getUserId(), stored.getFamilyId(), revoked);
+            throw new GeneralException(ErrorStatus.INVALID_TOKEN);
+        }
+
+        User user = findActiveUser(stored.getUserId());
+        return new Rotation(user, issue(user.getId(), stored.getFamilyId()));
+    }
+
+    /**
+     * refresh_tokens 도입 이전에 users.refresh_token에 저장된 토큰 (jti 없음)
+     * 한 번만 허용하고 새 체인으로 전환한다.
+     */
+    private Rotation rotateLegacy(String refreshToken) {
+        if (jwtService.extractTokenId(refreshToken).isPresent()) {
+            throw new GeneralException(ErrorStatus.INVALID_TOKEN);
+        }
+        User user = userRepository.findByRefreshToken(refreshToken)
+                .filter(u -> !u.isWithdrawn())
+                .orElseThrow(() -> new GeneralException(ErrorStatus.INVALID_TOKEN));
+        user.updateRefreshToken(null);
+        return new Rotation(user, issue(user.getId()));
+    }
+
+    private String issue(Long userId, String familyId) {
+        String token = jwtService.createRefreshToken(userId, familyId);
+        refreshTokenRepository.save(RefreshToken.builder()
+                .userId(userId)
+                .familyId(familyId)
+                .tokenHash(TokenDigest.sha256(token))
+                .expiresAt(LocalDateTime.now().plus(Duration.ofMillis(jwtService.getRefreshTokenExpirationPeriod())))
+                .build());
+        return token;
+    }
+
+    private User findActiveUser(Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new GeneralException(ErrorStatus.INVALID_TOKEN));
+        if (user.isWithdrawn()) {
+            throw new GeneralException(ErrorStatus.INVALID_TOKEN);
+        }
+        return user;
+    }
+}
@@ -0,0 +1,16 @@
+package com.seasonthon.everflow.app.global.security;
+
+import com.seasonthon.everflow.app.user.domain.RoleType;
+
+/**
+ * 검증된 Access Token의 클레임
+ */
+public record AccessTokenClaims(String email, Long userId, RoleType roleType) {
+
+    /**
+     * 클레임만으로 인증 주체를 만들 수 있는지 (이전 형식 토큰은 일부 클레임이 없을 수 있음)
+     */
+    public boolean isComplete() {
+        return email != null && userId != null && roleType != null;
+    }
+}
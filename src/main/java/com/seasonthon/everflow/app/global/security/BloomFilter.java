@@ -0,0 +1,68 @@
+package com.seasonthon.everflow.app.global.security;
+
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 토큰 digest 전용 Bloom filter (thread-safe)
+ * - false면 확실히 없음, true면 있을 수도 있음
+ * - 입력이 이미 SHA-256 digest이므로 별도 해시 없이 digest 바이트로 비트 위치를 계산한다.
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final int bitSize;
+    private final int hashCount;
+
+    public BloomFilter(int bitSize, int hashCount) {
+        this.bitSize = bitSize;
+        this.hashCount = hashCount;
+        this.bits = new AtomicLongArray((bitSize + 63) / 64);
+    }
+
+    public void put(String tokenDigest) {
+        long[] hashes = hashes(tokenDigest);
+        for (int i = 0; i < hashCount; i++) {
+            int index = index(hashes, i);
+            int slot = index >>> 6;
+            long mask = 1L << (index & 63);
+            long current;
+            do {
+                current = bits.get(slot);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(slot, current, current | mask));
+        }
+    }
+
+    public boolean mightContain(String tokenDigest) {
+        long[] hashes = hashes(tokenDigest);
+        for (int i = 0; i < hashCount; i++) {
+            int index = index(hashes, i);
+            if ((bits.get(index >>> 6) & (1L << (index & 63))) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 이중 해싱 (h1 + i * h2)
+    private int index(long[] hashes, int i) {
+        long combined = hashes[0] + i * hashes[1];
+        return (int) Math.floorMod(combined, (long) bitSize);
+    }
+
+    private static long[] hashes(String tokenDigest) {
+        byte[] digest = Base64.getUrlDecoder().decode(tokenDigest);
+        return new long[]{toLong(digest, 0), toLong(digest, 8)};
+    }
+
+    private static long toLong(byte[] bytes, int offset) {
+        long value = 0;
+        for (int i = offset; i < offset + 8; i++) {
+            value = (value << 8) | (bytes[i] & 0xFF);
+        }
+        return value;
+    }
+}
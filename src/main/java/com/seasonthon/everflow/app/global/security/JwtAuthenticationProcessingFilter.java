@@ -1,6 +1,9 @@
 package com.seasonthon.everflow.app.global.security;
 
+import com.seasonthon.everflow.app.global.exception.GeneralException;
 import com.seasonthon.everflow.app.global.oauth.domain.CustomUserDetails;
+import com.seasonthon.everflow.app.global.oauth.service.RefreshTokenService;
+import com.seasonthon.everflow.app.user.domain.RoleType;
 import com.seasonthon.everflow.app.user.domain.User;
 import com.seasonthon.everflow.app.user.repository.UserRepository;
 import jakarta.servlet.FilterChain;
@@ -25,6 +28,10 @@ public class JwtAuthenticationProcessingFilter extends OncePerRequestFilter {
     private final JwtService jwtService;
     private final UserRepository userRepository;
     private final TokenBlacklistService tokenBlacklistService;
+    private final RefreshTokenService refreshTokenService;
+    private final UserClaimsRegistry userClaimsRegistry;
+    // true: Access Token 클레임만으로 인증 (요청마다 users 조회 생략)
+    private final boolean statelessAuth;
     private final GrantedAuthoritiesMapper authoritiesMapper = new NullAuthoritiesMapper();
 
     @Override
@@ -51,24 +58,17 @@ public class JwtAuthenticationProcessingFilter extends OncePerRequestFilter {
     }
 
     private void checkRefreshTokenAndReIssueAccessToken(HttpServletResponse response, String refreshToken) {
-        userRepository.findByRefreshToken(refreshToken)
-                .ifPresent(user -> {
-                    if (!user.isWithdrawn()) {
-                        String reIssuedRefreshToken = reIssueRefreshToken(user);
-                        jwtService.sendAccessAndRefreshToken(
-                                response,
-                                jwtService.createAccessToken(user.getEmail(), user.getId(), user.getRoleType().toString()),
-                                reIssuedRefreshToken
-                        );
-                    }
-                });
-    }
-
-    private String reIssueRefreshToken(User user) {
-        String reIssuedRefreshToken = jwtService.createRefreshToken();
-        user.updateRefreshToken(reIssuedRefreshToken);
-        userRepository.saveAndFlush(user);
-        return reIssuedRefreshToken;
+        try {
+            RefreshTokenService.Rotation rotation = refreshTokenService.rotate(refreshToken);
+            User user = rotation.user();
+            jwtService.sendAccessAndRefreshToken(
+                    response,
+                    jwtService.createAccessToken(user.getEmail(), user.getId(), user.getRoleType().toString()),
+                    rotation.refreshToken()
+            );
+        } catch (GeneralException e) {
+            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        }
     }
 
     private void checkAccessTokenAndAuthentication(HttpServletRequest request, HttpServletResponse response,
@@ -84,13 +84,12 @@ public class JwtAuthenticationProcessingFilter extends OncePerRequestFilter {
             }
 
             try {
-                String email = jwtService.verifyTokenAndGetEmail(accessToken);
-                userRepository.findByEmail(email)
-                        .ifPresent(user -> {
-                            if (!user.isWithdrawn()) {
-                                saveAuthentication(user);
-                            }
-                        });
+                AccessTokenClaims claims = jwtService.verifyAccessTokenClaims(accessToken);
+                if (statelessAuth && claims.isComplete()) {
+                    authenticateWithClaims(claims);
+                } else {
+                    authenticateWithUser(claims.email());
+                }
             } catch (Exception e) {
                 response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
                 return;
@@ -100,12 +99,33 @@ public class JwtAuthenticationProcessingFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
-    private void saveAuthentication(User myUser) {
+    private void authenticateWithClaims(AccessTokenClaims claims) {
+        UserClaimsRegistry.Status status = userClaimsRegistry.getStatus(claims.userId());
+        if (status == UserClaimsRegistry.Status.WITHDRAWN) {
+            return;
+        }
+        if (status == UserClaimsRegistry.Status.CHANGED) {
+            authenticateWithUser(claims.email());
+            return;
+        }
+        saveAuthentication(claims.email(), claims.roleType(), claims.userId());
+    }
+
+    private void authenticateWithUser(String email) {
+        userRepository.findByEmail(email)
+                .ifPresent(user -> {
+                    if (!user.isWithdrawn()) {
+                        saveAuthentication(user.getEmail(), user.getRoleType(), user.getId());
+                    }
+                });
+    }
+
+    private void saveAuthentication(String email, RoleType roleType, Long userId) {
         CustomUserDetails userDetailsUser = new CustomUserDetails(
-                Collections.singleton(new SimpleGrantedAuthority(myUser.getRoleType().toString())),
-                myUser.getEmail(),
-                myUser.getRoleType(),
-                myUser.getId());
+                Collections.singleton(new SimpleGrantedAuthority(roleType.toString())),
+                email,
+                roleType,
+                userId);
 
         Authentication authentication = new UsernamePasswordAuthenticationToken(
                 userDetailsUser, null, authoritiesMapper.mapAuthorities(userDetailsUser.getAuthorities()));
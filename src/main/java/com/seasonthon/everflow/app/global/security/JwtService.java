@@ -1,23 +1,30 @@
 package com.seasonthon.everflow.app.global.security;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.exceptions.TokenExpiredException;
+import com.auth0.jwt.interfaces.DecodedJWT;
 import com.seasonthon.everflow.app.global.code.status.ErrorStatus;
 import com.seasonthon.everflow.app.global.exception.GeneralException;
-import com.seasonthon.everflow.app.user.domain.User;
-import com.seasonthon.everflow.app.user.repository.UserRepository;
+import com.seasonthon.everflow.app.user.domain.RoleType;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 @Service
 @RequiredArgsConstructor
@@ -40,16 +47,32 @@ public class JwtService {
     @Value("${jwt.refresh.header}")
     private String refreshHeader;
 
-    private final UserRepository userRepository;
     private final TokenBlacklistService tokenBlacklistService;
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    // 서명 키/검증기는 thread-safe 하므로 한 번만 생성해 재사용
+    @Getter(AccessLevel.NONE)
+    private Algorithm algorithm;
+    @Getter(AccessLevel.NONE)
+    private JWTVerifier verifier;
+
+    // 요청 단위로 검증 결과를 보관하는 request attribute 이름
+    private static final String VERIFIED_TOKENS_ATTRIBUTE = JwtService.class.getName() + ".VERIFIED_TOKENS";
 
     private static final String ACCESS_TOKEN_SUBJECT = "AccessToken";
     private static final String REFRESH_TOKEN_SUBJECT = "RefreshToken";
     private static final String EMAIL_CLAIM = "email";
     private static final String USERID_CLAIM = "userId";
     private static final String ROLE_CLAIM = "role";
+    private static final String FAMILY_CLAIM = "family";
     private static final String BEARER_PREFIX = "Bearer ";
 
+    @PostConstruct
+    void init() {
+        this.algorithm = Algorithm.HMAC512(secretKey);
+        this.verifier = JWT.require(algorithm).build();
+    }
+
     /**
      * Access Token을 생성합니다.
      */
@@ -61,18 +84,34 @@ public class JwtService {
                 .withClaim(EMAIL_CLAIM, email)
                 .withClaim(USERID_CLAIM, userId)
                 .withClaim(ROLE_CLAIM, roleType)
-                .sign(Algorithm.HMAC512(secretKey));
+                .sign(algorithm);
     }
 
     /**
      * Refresh Token을 생성합니다.
+     * userId와 재발급 체인(family) 식별자, 토큰별 고유 ID(jti)를 담습니다.
      */
-    public String createRefreshToken() {
+    public String createRefreshToken(Long userId, String familyId) {
         Date now = new Date();
         return JWT.create()
                 .withSubject(REFRESH_TOKEN_SUBJECT)
+                .withJWTId(UUID.randomUUID().toString())
+                .withClaim(USERID_CLAIM, userId)
+                .withClaim(FAMILY_CLAIM, familyId)
                 .withExpiresAt(new Date(now.getTime() + refreshTokenExpirationPeriod))
-                .sign(Algorithm.HMAC512(secretKey));
+                .sign(algorithm);
+    }
+
+    /**
+     * 토큰의 jti를 추출합니다. (jti가 없는 이전 형식 Refresh Token 판별용)
+     */
+    public Optional<String> extractTokenId(String token) {
+        try {
+            return Optional.ofNullable(verifyOnce(token).getId());
+        } catch (Exception e) {
+            log.warn("유효하지 않은 토큰입니다. {}", e.getMessage());
+            return Optional.empty();
+        }
     }
 
     /**
@@ -129,9 +168,7 @@ public class JwtService {
      */
     public Optional<String> extractEmail(String accessToken) {
         try {
-            return Optional.ofNullable(JWT.require(Algorithm.HMAC512(secretKey))
-                    .build()
-                    .verify(accessToken)
+            return Optional.ofNullable(verifyOnce(accessToken)
                     .getClaim(EMAIL_CLAIM)
                     .asString());
         } catch (Exception e) {
@@ -140,19 +177,12 @@ public class JwtService {
         }
     }
 
-    @Transactional
-    public void updateRefreshToken(String email, String refreshToken) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new GeneralException(ErrorStatus.USER_NOT_FOUND));
-        user.updateRefreshToken(refreshToken);
-    }
-
     public boolean isTokenValid(String token) {
         if (tokenBlacklistService.isTokenBlacklisted(token)) {
             return false;
         }
         try {
-            JWT.require(Algorithm.HMAC512(secretKey)).build().verify(token);
+            verifyOnce(token);
             return true;
         } catch (Exception e) {
             log.warn("유효하지 않은 토큰입니다. 원인: {}", e.getMessage());
@@ -161,15 +191,38 @@ public class JwtService {
     }
 
     public String verifyTokenAndGetEmail(String token) {
+        return verifyToken(token).getClaim(EMAIL_CLAIM).asString();
+    }
+
+    /**
+     * Access Token을 검증하고 인증에 필요한 클레임(email, userId, role)을 반환합니다.
+     */
+    public AccessTokenClaims verifyAccessTokenClaims(String token) {
+        DecodedJWT decodedJWT = verifyToken(token);
+        return new AccessTokenClaims(
+                decodedJWT.getClaim(EMAIL_CLAIM).asString(),
+                decodedJWT.getClaim(USERID_CLAIM).asLong(),
+                toRoleType(decodedJWT.getClaim(ROLE_CLAIM).asString())
+        );
+    }
+
+    private RoleType toRoleType(String role) {
+        if (role == null) {
+            return null;
+        }
+        try {
+            return RoleType.valueOf(role);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private DecodedJWT verifyToken(String token) {
         if (tokenBlacklistService.isTokenBlacklisted(token)) {
             throw new GeneralException(ErrorStatus.INVALID_TOKEN);
         }
         try {
-            return JWT.require(Algorithm.HMAC512(secretKey))
-                    .build()
-                    .verify(token)
-                    .getClaim(EMAIL_CLAIM)
-                    .asString();
+            return verifyOnce(token);
         } catch (TokenExpiredException e) {
             log.warn("만료된 토큰입니다. {}", e.getMessage());
             throw new GeneralException(ErrorStatus.EXPIRED_TOKEN);
@@ -184,9 +237,7 @@ public class JwtService {
      */
     public Optional<Long> extractUserId(String accessToken) {
         try {
-            return Optional.ofNullable(JWT.require(Algorithm.HMAC512(secretKey))
-                    .build()
-                    .verify(accessToken)
+            return Optional.ofNullable(verifyOnce(accessToken)
                     .getClaim(USERID_CLAIM)
                     .asLong());
         } catch (Exception e) {
@@ -194,4 +245,42 @@ public class JwtService {
             return Optional.empty();
         }
     }
+
+    /**
+     * 토큰 서명/만료를 검증합니다.
+     * 같은 요청 안에서 이미 검증한 토큰은 다시 검증하지 않고 결과를 재사용합니다.
+     */
+    private DecodedJWT verifyOnce(String token) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return verifyCached(token);
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<String, DecodedJWT> verifiedTokens =
+                (Map<String, DecodedJWT>) attributes.getAttribute(VERIFIED_TOKENS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (verifiedTokens == null) {
+            verifiedTokens = new HashMap<>(2);
+            attributes.setAttribute(VERIFIED_TOKENS_ATTRIBUTE, verifiedTokens, RequestAttributes.SCOPE_REQUEST);
+        }
+
+        DecodedJWT decodedJWT = verifiedTokens.get(token);
+        if (decodedJWT == null) {
+            decodedJWT = verifyCached(token);
+            verifiedTokens.put(token, decodedJWT);
+        }
+        return decodedJWT;
+    }
+
+    /**
+     * 이전 요청에서 검증된 토큰이면 캐시된 결과를 사용합니다. (exp 시각에 캐시에서 만료)
+     */
+    private DecodedJWT verifyCached(String token) {
+        DecodedJWT decodedJWT = verifiedTokenCache.get(token);
+        if (decodedJWT == null) {
+            decodedJWT = verifier.verify(token);
+            verifiedTokenCache.put(token, decodedJWT);
+        }
+        return decodedJWT;
+    }
 }
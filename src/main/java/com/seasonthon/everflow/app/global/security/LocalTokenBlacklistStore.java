@@ -0,0 +1,45 @@
+package com.seasonthon.everflow.app.global.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import java.time.Duration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 단일 인스턴스용 블랙리스트 (항목마다 토큰 만료 시각에 제거)
+ */
+@Component
+@ConditionalOnProperty(name = "everflow.redis.enabled", havingValue = "false", matchIfMissing = true)
+public class LocalTokenBlacklistStore implements TokenBlacklistStore {
+
+    private final Cache<String, Long> blacklist = Caffeine.newBuilder()
+            .expireAfter(new Expiry<String, Long>() {
+                @Override
+                public long expireAfterCreate(String key, Long ttlNanos, long currentTime) {
+                    return ttlNanos;
+                }
+
+                @Override
+                public long expireAfterUpdate(String key, Long ttlNanos, long currentTime, long currentDuration) {
+                    return ttlNanos;
+                }
+
+                @Override
+                public long expireAfterRead(String key, Long ttlNanos, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+
+    @Override
+    public void add(String tokenDigest, Duration ttl) {
+        blacklist.put(tokenDigest, ttl.toNanos());
+    }
+
+    @Override
+    public boolean contains(String tokenDigest) {
+        return blacklist.getIfPresent(tokenDigest) != null;
+    }
+}
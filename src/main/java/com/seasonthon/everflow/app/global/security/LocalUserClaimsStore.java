@@ -0,0 +1,41 @@
+package com.seasonthon.everflow.app.global.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 단일 인스턴스용 사용자 상태 저장소 (Access Token 만료 시간 동안 보관)
+ */
+@Component
+@ConditionalOnProperty(name = "everflow.redis.enabled", havingValue = "false", matchIfMissing = true)
+public class LocalUserClaimsStore implements UserClaimsStore {
+
+    private final Cache<Long, UserClaimsRegistry.Status> statuses;
+
+    public LocalUserClaimsStore(@Value("${jwt.access.expiration}") Long accessTokenExpirationPeriod) {
+        this.statuses = Caffeine.newBuilder()
+                .expireAfterWrite(accessTokenExpirationPeriod, TimeUnit.MILLISECONDS)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    @Override
+    public void markWithdrawn(Long userId, Duration ttl) {
+        statuses.put(userId, UserClaimsRegistry.Status.WITHDRAWN);
+    }
+
+    @Override
+    public void markChanged(Long userId, Duration ttl) {
+        statuses.asMap().putIfAbsent(userId, UserClaimsRegistry.Status.CHANGED);
+    }
+
+    @Override
+    public UserClaimsRegistry.Status getStatus(Long userId) {
+        return statuses.getIfPresent(userId);
+    }
+}
@@ -0,0 +1,163 @@
+package com.seasonthon.everflow.app.global.security;
+
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 여러 노드가 공유하는 블랙리스트
+ * - Redis: digest 키를 토큰 남은 유효 시간만큼 TTL로 저장
+ * - 로컬 Bloom filter: "블랙리스트 아님"인 대부분의 요청을 Redis 조회 없이 판정
+ * - 다른 노드의 추가는 pub/sub으로 받아 Bloom filter에 반영
+ * - pub/sub은 전달을 보장하지 않으므로 (재)구독 시 필터를 다시 만들고,
+ *   재구성이 성공하기 전까지는 "준비 안 됨"으로 두어 Redis를 직접 조회한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "everflow.redis.enabled", havingValue = "true")
+public class RedisTokenBlacklistStore implements TokenBlacklistStore, MessageListener, SubscriptionListener {
+
+    private static final String KEY_PREFIX = "everflow:blacklist:";
+    private static final String CHANNEL = "everflow:blacklist";
+
+    // 약 5만 건에서 오탐률 1% 미만 (128KB)
+    private static final int BLOOM_BITS = 1 << 20;
+    private static final int BLOOM_HASHES = 7;
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private volatile BloomFilter bloomFilter = newBloomFilter();
+    // 재구성 중에 추가된 digest를 새 필터에도 반영하기 위함
+    private BloomFilter rebuildingFilter;
+
+    // Bloom filter가 Redis의 블랙리스트를 빠짐없이 반영하고 있는지 여부 (false면 contains()가 Redis를 직접 조회)
+    private volatile boolean bloomReady = false;
+    // 필터를 무효화할 때마다 증가 (재구성 도중 무효화되었으면 완료 후에도 준비 상태로 두지 않음)
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public RedisTokenBlacklistStore(StringRedisTemplate redisTemplate,
+                                    RedisMessageListenerContainer listenerContainer) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+    }
+
+    @PostConstruct
+    void init() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+        rebuildBloomFilter();
+    }
+
+    @Override
+    public void add(String tokenDigest, Duration ttl) {
+        if (ttl.isZero() || ttl.isNegative()) {
+            return;
+        }
+        redisTemplate.opsForValue().set(KEY_PREFIX + tokenDigest, "1", ttl);
+        putBloom(tokenDigest);
+        redisTemplate.convertAndSend(CHANNEL, tokenDigest);
+    }
+
+    @Override
+    public boolean contains(String tokenDigest) {
+        if (bloomReady && !bloomFilter.mightContain(tokenDigest)) {
+            return false;
+        }
+        return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + tokenDigest));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        putBloom(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 구독이 (재)수립되면 끊긴 동안 놓친 메시지가 있을 수 있으므로 필터를 무효화한다. (재구성은 retryRebuild가 수행)
+     */
+    @Override
+    public void onChannelSubscribed(byte[] channel, long count) {
+        invalidate("구독 수립");
+    }
+
+    @Override
+    public void onChannelUnsubscribed(byte[] channel, long count) {
+        invalidate("구독 해제");
+    }
+
+    /**
+     * 필터가 준비되지 않은 상태(기동 시 실패, 재구독, 재구성 실패)면 곧바로 다시 만든다.
+     */
+    @Scheduled(fixedDelay = 10 * 1000, initialDelay = 10 * 1000)
+    public void retryRebuild() {
+        if (!bloomReady) {
+            rebuildBloomFilter();
+        }
+    }
+
+    /**
+     * 만료된 digest는 Bloom filter에서 지울 수 없으므로 주기적으로 Redis의 현재 키로 다시 만든다.
+     */
+    @Scheduled(fixedDelay = 60 * 60 * 1000, initialDelay = 60 * 60 * 1000)
+    public void rebuildBloomFilter() {
+        long startedAt = invalidations.get();
+        BloomFilter next = newBloomFilter();
+        synchronized (this) {
+            rebuildingFilter = next;
+        }
+
+        int count = 0;
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                next.put(cursor.next().substring(KEY_PREFIX.length()));
+                count++;
+            }
+        } catch (RuntimeException e) {
+            log.warn("블랙리스트 Bloom filter 재구성 실패 (Redis 직접 조회로 전환) - {}", e.getMessage());
+            synchronized (this) {
+                rebuildingFilter = null;
+                bloomReady = false;
+            }
+            return;
+        }
+
+        synchronized (this) {
+            bloomFilter = next;
+            rebuildingFilter = null;
+            bloomReady = (invalidations.get() == startedAt);
+        }
+        log.debug("블랙리스트 Bloom filter 재구성: {}건", count);
+    }
+
+    private synchronized void invalidate(String reason) {
+        invalidations.incrementAndGet();
+        if (bloomReady) {
+            bloomReady = false;
+            log.info("블랙리스트 Bloom filter 무효화 ({}) - 재구성 전까지 Redis 직접 조회", reason);
+        }
+    }
+
+    private synchronized void putBloom(String tokenDigest) {
+        bloomFilter.put(tokenDigest);
+        if (rebuildingFilter != null) {
+            rebuildingFilter.put(tokenDigest);
+        }
+    }
+
+    private static BloomFilter newBloomFilter() {
+        return new BloomFilter(BLOOM_BITS, BLOOM_HASHES);
+    }
+}
@@ -0,0 +1,209 @@
+package com.seasonthon.everflow.app.global.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 여러 노드가 공유하는 사용자 상태 저장소
+ * - Redis: userId 키에 상태를 Access Token 만료 시간만큼 TTL로 저장
+ * - 로컬 사본: 매 요청마다 Redis를 조회하지 않도록 pub/sub으로 받은 변경을 반영
+ * - pub/sub은 전달을 보장하지 않으므로 (재)구독 시 사본을 다시 만들고,
+ *   재구성이 성공하기 전까지는 Redis를 직접 조회한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "everflow.redis.enabled", havingValue = "true")
+public class RedisUserClaimsStore implements UserClaimsStore, MessageListener, SubscriptionListener {
+
+    private static final String KEY_PREFIX = "everflow:user-claims:";
+    private static final String CHANNEL = "everflow:user-claims";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final long retentionMillis;
+
+    private volatile Cache<Long, UserClaimsRegistry.Status> statuses;
+    // 재구성 중에 받은 변경을 새 사본에도 반영하기 위함
+    private Cache<Long, UserClaimsRegistry.Status> rebuilding;
+
+    // 로컬 사본이 Redis를 빠짐없이 반영하고 있는지 여부 (false면 Redis를 직접 조회)
+    private volatile boolean ready = false;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public RedisUserClaimsStore(@Value("${jwt.access.expiration}") Long accessTokenExpirationPeriod,
+                                StringRedisTemplate redisTemplate,
+                                RedisMessageListenerContainer listenerContainer) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.retentionMillis = accessTokenExpirationPeriod;
+        this.statuses = newCache();
+    }
+
+    @PostConstruct
+    void init() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+        rebuild();
+    }
+
+    @Override
+    public void markWithdrawn(Long userId, Duration ttl) {
+        redisTemplate.opsForValue().set(KEY_PREFIX + userId, UserClaimsRegistry.Status.WITHDRAWN.name(), ttl);
+        apply(userId, UserClaimsRegistry.Status.WITHDRAWN);
+        redisTemplate.convertAndSend(CHANNEL, userId + ":" + UserClaimsRegistry.Status.WITHDRAWN.name());
+    }
+
+    @Override
+    public void markChanged(Long userId, Duration ttl) {
+        // 이미 탈퇴로 기록된 경우 덮어쓰지 않음
+        redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + userId, UserClaimsRegistry.Status.CHANGED.name(), ttl);
+        apply(userId, UserClaimsRegistry.Status.CHANGED);
+        redisTemplate.convertAndSend(CHANNEL, userId + ":" + UserClaimsRegistry.Status.CHANGED.name());
+    }
+
+    @Override
+    public UserClaimsRegistry.Status getStatus(Long userId) {
+        if (ready) {
+            return statuses.getIfPresent(userId);
+        }
+        return parseStatus(redisTemplate.opsForValue().get(KEY_PREFIX + userId));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        try {
+            Long userId = Long.valueOf(body.substring(0, separator));
+            UserClaimsRegistry.Status status = parseStatus(body.substring(separator + 1));
+            if (status != null) {
+                apply(userId, status);
+            }
+        } catch (RuntimeException e) {
+            log.warn("사용자 상태 메시지 파싱 실패: {}", body);
+        }
+    }
+
+    /**
+     * 구독이 (재)수립되면 끊긴 동안 놓친 메시지가 있을 수 있으므로 사본을 무효화한다. (재구성은 retryRebuild가 수행)
+     */
+    @Override
+    public void onChannelSubscribed(byte[] channel, long count) {
+        invalidate("구독 수립");
+    }
+
+    @Override
+    public void onChannelUnsubscribed(byte[] channel, long count) {
+        invalidate("구독 해제");
+    }
+
+    @Scheduled(fixedDelay = 10 * 1000, initialDelay = 10 * 1000)
+    public void retryRebuild() {
+        if (!ready) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Redis의 현재 키로 로컬 사본을 다시 만든다.
+     */
+    public void rebuild() {
+        long startedAt = invalidations.get();
+        Cache<Long, UserClaimsRegistry.Status> next = newCache();
+        synchronized (this) {
+            rebuilding = next;
+        }
+
+        int count = 0;
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            List<String> keys = new ArrayList<>();
+            while (cursor.hasNext()) {
+                keys.add(cursor.next());
+            }
+            List<String> values = keys.isEmpty() ? List.of() : redisTemplate.opsForValue().multiGet(keys);
+            for (int i = 0; i < keys.size(); i++) {
+                UserClaimsRegistry.Status status = (values != null) ? parseStatus(values.get(i)) : null;
+                if (status != null) {
+                    mergeInto(next, Long.valueOf(keys.get(i).substring(KEY_PREFIX.length())), status);
+                    count++;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("사용자 상태 사본 재구성 실패 (Redis 직접 조회로 전환) - {}", e.getMessage());
+            synchronized (this) {
+                rebuilding = null;
+                ready = false;
+            }
+            return;
+        }
+
+        synchronized (this) {
+            statuses = next;
+            rebuilding = null;
+            ready = (invalidations.get() == startedAt);
+        }
+        log.debug("사용자 상태 사본 재구성: {}건", count);
+    }
+
+    private synchronized void apply(Long userId, UserClaimsRegistry.Status status) {
+        mergeInto(statuses, userId, status);
+        if (rebuilding != null) {
+            mergeInto(rebuilding, userId, status);
+        }
+    }
+
+    private synchronized void invalidate(String reason) {
+        invalidations.incrementAndGet();
+        if (ready) {
+            ready = false;
+            log.info("사용자 상태 사본 무효화 ({}) - 재구성 전까지 Redis 직접 조회", reason);
+        }
+    }
+
+    private static void mergeInto(Cache<Long, UserClaimsRegistry.Status> cache, Long userId,
+                                  UserClaimsRegistry.Status status) {
+        if (status == UserClaimsRegistry.Status.WITHDRAWN) {
+            cache.put(userId, status);
+        } else {
+            cache.asMap().putIfAbsent(userId, status);
+        }
+    }
+
+    private static UserClaimsRegistry.Status parseStatus(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return UserClaimsRegistry.Status.valueOf(value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private Cache<Long, UserClaimsRegistry.Status> newCache() {
+        return Caffeine.newBuilder()
+                .expireAfterWrite(retentionMillis, TimeUnit.MILLISECONDS)
+                .maximumSize(100_000)
+                .build();
+    }
+}
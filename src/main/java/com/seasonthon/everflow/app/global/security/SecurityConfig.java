@@ -1,15 +1,21 @@
 package com.seasonthon.everflow.app.global.security;
 
+import com.seasonthon.everflow.app.global.oauth.service.RefreshTokenService;
 import com.seasonthon.everflow.app.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.crypto.factory.PasswordEncoderFactories;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -26,6 +32,42 @@ public class SecurityConfig {
     private final UserRepository userRepository;
     private final TokenBlacklistService tokenBlacklistService;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
+    private final UserClaimsRegistry userClaimsRegistry;
+    private final RefreshTokenService refreshTokenService;
+
+    @Value("${jwt.stateless-auth:true}")
+    private boolean statelessAuth;
+
+    @Value("${everflow.metrics.username:prometheus}")
+    private String metricsUsername;
+
+    @Value("${everflow.metrics.password:}")
+    private String metricsPassword;
+
+    /**
+     * 모니터링 수집 경로는 수집기 전용 계정(HTTP Basic)으로만 허용
+     * - everflow.metrics.password가 비어 있으면 모든 요청을 거부
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain metricsFilterChain(HttpSecurity http) throws Exception {
+        http
+                .securityMatcher("/actuator/prometheus")
+                .csrf(AbstractHttpConfigurer::disable)
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .httpBasic(Customizer.withDefaults());
+
+        if (metricsPassword.isBlank()) {
+            http.authorizeHttpRequests(auth -> auth.anyRequest().denyAll());
+        } else {
+            http.userDetailsService(new InMemoryUserDetailsManager(User.withUsername(metricsUsername)
+                            .password(passwordEncoder().encode(metricsPassword))
+                            .roles("METRICS")
+                            .build()))
+                    .authorizeHttpRequests(auth -> auth.anyRequest().hasRole("METRICS"));
+        }
+        return http.build();
+    }
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -44,6 +86,8 @@ public class SecurityConfig {
                         .requestMatchers("/swagger-ui.html", "/swagger-ui/**", "/v3/api-docs/**").permitAll()
                         .requestMatchers("/family/verify/**").permitAll()
                         .requestMatchers("/api/notifications/**").permitAll()
+                        // 헬스 체크만 공개 (/actuator/prometheus는 metricsFilterChain에서 처리)
+                        .requestMatchers("/actuator/health").permitAll()
                         .anyRequest().authenticated()
                 )
                 // JWT 인증 필터를 UsernamePasswordAuthenticationFilter 이전에 추가
@@ -72,7 +116,8 @@ public class SecurityConfig {
 
     @Bean
     public JwtAuthenticationProcessingFilter jwtAuthenticationProcessingFilter() {
-        return new JwtAuthenticationProcessingFilter(jwtService, userRepository, tokenBlacklistService);
+        return new JwtAuthenticationProcessingFilter(
+                jwtService, userRepository, tokenBlacklistService, refreshTokenService, userClaimsRegistry, statelessAuth);
     }
 
     @Bean
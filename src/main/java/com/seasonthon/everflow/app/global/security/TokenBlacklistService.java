@@ -1,30 +1,36 @@
 package com.seasonthon.everflow.app.global.security;
 
-import com.github.benmanes.caffeine.cache.Cache;
-import com.github.benmanes.caffeine.cache.Caffeine;
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.exceptions.JWTDecodeException;
+import java.time.Duration;
+import java.util.Date;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.util.concurrent.TimeUnit;
-
 @Service
 public class TokenBlacklistService {
 
-    private final Cache<String, String> tokenBlacklist;
+    private final TokenBlacklistStore tokenBlacklistStore;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final Long refreshTokenExpirationPeriod;
 
-    public TokenBlacklistService(@Value("${jwt.refresh.expiration}") Long refreshTokenExpirationPeriod) {
-        this.tokenBlacklist = Caffeine.newBuilder()
-                .expireAfterWrite(refreshTokenExpirationPeriod, TimeUnit.MILLISECONDS)
-                .build();
+    public TokenBlacklistService(@Value("${jwt.refresh.expiration}") Long refreshTokenExpirationPeriod,
+                                 TokenBlacklistStore tokenBlacklistStore,
+                                 VerifiedTokenCache verifiedTokenCache) {
+        this.refreshTokenExpirationPeriod = refreshTokenExpirationPeriod;
+        this.tokenBlacklistStore = tokenBlacklistStore;
+        this.verifiedTokenCache = verifiedTokenCache;
     }
 
     /**
-     * 토큰을 블랙리스트에 추가합니다.
+     * 토큰을 블랙리스트에 추가합니다. (토큰 만료 시각까지만 보관)
      * @param token 무효화할 토큰
      */
     public void blacklistToken(String token) {
         if (token != null && !token.isEmpty()) {
-            tokenBlacklist.put(token, "blacklisted");
+            tokenBlacklistStore.add(TokenDigest.sha256(token), remainingLifetime(token));
+            // 검증 캐시에 남은 결과로 인증되지 않도록 즉시 제거
+            verifiedTokenCache.evict(token);
         }
     }
 
@@ -34,6 +40,18 @@ public class TokenBlacklistService {
      * @return 블랙리스트에 있으면 true
      */
     public boolean isTokenBlacklisted(String token) {
-        return tokenBlacklist.getIfPresent(token) != null;
+        return tokenBlacklistStore.contains(TokenDigest.sha256(token));
+    }
+
+    private Duration remainingLifetime(String token) {
+        try {
+            Date expiresAt = JWT.decode(token).getExpiresAt();
+            if (expiresAt != null) {
+                return Duration.ofMillis(Math.max(expiresAt.getTime() - System.currentTimeMillis(), 0L));
+            }
+        } catch (JWTDecodeException ignored) {
+            // 형식이 잘못된 토큰은 기본 보관 기간 적용
+        }
+        return Duration.ofMillis(refreshTokenExpirationPeriod);
     }
 }
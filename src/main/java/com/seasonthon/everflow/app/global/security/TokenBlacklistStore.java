@@ -0,0 +1,16 @@
+package com.seasonthon.everflow.app.global.security;
+
+import java.time.Duration;
+
+/**
+ * 로그아웃 등으로 무효화된 토큰 저장소 (토큰 원문 대신 digest 저장)
+ */
+public interface TokenBlacklistStore {
+
+    /**
+     * @param ttl 토큰의 남은 유효 시간 (만료 이후에는 보관할 필요 없음)
+     */
+    void add(String tokenDigest, Duration ttl);
+
+    boolean contains(String tokenDigest);
+}
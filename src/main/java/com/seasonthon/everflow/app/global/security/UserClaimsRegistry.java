@@ -0,0 +1,42 @@
+package com.seasonthon.everflow.app.global.security;
+
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Access Token 클레임만으로 인증할 때, 토큰 발급 이후 상태가 바뀐 사용자를 기록한다.
+ * - WITHDRAWN: 탈퇴한 사용자 (인증 거부)
+ * - CHANGED: 권한 등 클레임이 바뀐 사용자 (DB 조회로 인증)
+ * Access Token 만료 시간 동안만 보관하면 이전에 발급된 토큰이 모두 만료된다.
+ * 다중 인스턴스에서는 Redis 저장소를 통해 모든 노드에 반영된다.
+ */
+@Component
+public class UserClaimsRegistry {
+
+    public enum Status {
+        WITHDRAWN, CHANGED
+    }
+
+    private final UserClaimsStore userClaimsStore;
+    private final Duration retention;
+
+    public UserClaimsRegistry(@Value("${jwt.access.expiration}") Long accessTokenExpirationPeriod,
+                              UserClaimsStore userClaimsStore) {
+        this.userClaimsStore = userClaimsStore;
+        this.retention = Duration.ofMillis(accessTokenExpirationPeriod);
+    }
+
+    public void markWithdrawn(Long userId) {
+        userClaimsStore.markWithdrawn(userId, retention);
+    }
+
+    public void markChanged(Long userId) {
+        // 탈퇴 상태는 덮어쓰지 않음
+        userClaimsStore.markChanged(userId, retention);
+    }
+
+    public Status getStatus(Long userId) {
+        return userClaimsStore.getStatus(userId);
+    }
+}
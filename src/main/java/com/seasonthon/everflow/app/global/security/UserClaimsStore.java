@@ -0,0 +1,21 @@
+package com.seasonthon.everflow.app.global.security;
+
+import java.time.Duration;
+
+/**
+ * 토큰 발급 이후 상태가 바뀐 사용자 저장소 (UserClaimsRegistry가 사용)
+ */
+public interface UserClaimsStore {
+
+    /**
+     * @param ttl 보관 기간 (Access Token 만료 시간, 이후에는 이전에 발급된 토큰이 모두 만료됨)
+     */
+    void markWithdrawn(Long userId, Duration ttl);
+
+    /**
+     * 탈퇴 상태는 덮어쓰지 않는다.
+     */
+    void markChanged(Long userId, Duration ttl);
+
+    UserClaimsRegistry.Status getStatus(Long userId);
+}
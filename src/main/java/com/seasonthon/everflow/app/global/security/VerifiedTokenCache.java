@@ -0,0 +1,59 @@
+package com.seasonthon.everflow.app.global.security;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서명 검증을 마친 토큰을 digest 기준으로 보관한다.
+ * - 같은 토큰이 반복 요청되면 HMAC 검증/클레임 디코딩을 생략
+ * - 각 항목은 토큰의 exp 시각에 만료된다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final Cache<String, DecodedJWT> cache = Caffeine.newBuilder()
+            .maximumSize(50_000)
+            .expireAfter(new Expiry<String, DecodedJWT>() {
+                @Override
+                public long expireAfterCreate(String key, DecodedJWT value, long currentTime) {
+                    return remainingNanos(value);
+                }
+
+                @Override
+                public long expireAfterUpdate(String key, DecodedJWT value, long currentTime, long currentDuration) {
+                    return remainingNanos(value);
+                }
+
+                @Override
+                public long expireAfterRead(String key, DecodedJWT value, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+
+    public DecodedJWT get(String token) {
+        return cache.getIfPresent(TokenDigest.sha256(token));
+    }
+
+    public void put(String token, DecodedJWT decodedJWT) {
+        if (decodedJWT.getExpiresAt() == null) {
+            return;
+        }
+        cache.put(TokenDigest.sha256(token), decodedJWT);
+    }
+
+    public void evict(String token) {
+        cache.invalidate(TokenDigest.sha256(token));
+    }
+
+    private static long remainingNanos(DecodedJWT decodedJWT) {
+        Date expiresAt = decodedJWT.getExpiresAt();
+        long remainingMillis = expiresAt.getTime() - System.currentTimeMillis();
+        return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0L));
+    }
+}
@@ -0,0 +1,47 @@
+package com.seasonthon.everflow.app.global.web;
+
+import com.seasonthon.everflow.app.global.code.dto.ApiResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * 조건부 GET (ETag / If-None-Match)
+ * - 각 API는 응답이 바뀔 때만 달라지는 가벼운 버전 키(메모 version, 답변 최종 수정 시각, 가족 구성원 버전 등)를 넘긴다.
+ * - 버전 키로 weak ETag를 만들고, 클라이언트의 If-None-Match와 같으면 본문 조회/직렬화 없이 304를 반환한다.
+ * - 버전 키가 null이면(아직 리소스가 없는 경우 등) ETag 없이 그대로 응답한다.
+ */
+public final class ConditionalGet {
+
+    // 클라이언트가 저장은 하되 매번 ETag로 재검증하도록
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private ConditionalGet() {
+    }
+
+    public static <T> ResponseEntity<ApiResponse<T>> respond(WebRequest request, Object versionKey, Supplier<T> body) {
+        if (versionKey == null) {
+            return ResponseEntity.ok(ApiResponse.onSuccess(body.get()));
+        }
+        String eTag = eTag(versionKey);
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(REVALIDATE)
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(REVALIDATE)
+                .body(ApiResponse.onSuccess(body.get()));
+    }
+
+    static String eTag(Object versionKey) {
+        String digest = DigestUtils.md5DigestAsHex(String.valueOf(versionKey).getBytes(StandardCharsets.UTF_8));
+        return "W/\"" + digest + "\"";
+    }
+}
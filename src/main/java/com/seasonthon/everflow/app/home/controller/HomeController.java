@@ -3,6 +3,7 @@ package com.seasonthon.everflow.app.home.controller;
 import com.seasonthon.everflow.app.global.code.dto.ApiResponse;
 import com.seasonthon.everflow.app.global.oauth.domain.CustomUserDetails;
 import com.seasonthon.everflow.app.global.oauth.service.AuthService;
+import com.seasonthon.everflow.app.global.web.ConditionalGet;
 import com.seasonthon.everflow.app.home.dto.ClosenessResponseDto;
 import com.seasonthon.everflow.app.home.dto.FamilySummaryResponseDto;
 import com.seasonthon.everflow.app.home.service.HomeService;
@@ -12,10 +13,12 @@ import com.seasonthon.everflow.app.topic.service.TopicService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -51,11 +54,13 @@ public class HomeController {
             description = "같은 가족 구성원의 userId, 닉네임, 책 색을 조회합니다."
     )
     @GetMapping("/bookshelves")
-    public ApiResponse<FamilySummaryResponseDto> getFamilySummary(
-            @AuthenticationPrincipal CustomUserDetails me
+    public ResponseEntity<ApiResponse<FamilySummaryResponseDto>> getFamilySummary(
+            @AuthenticationPrincipal CustomUserDetails me,
+            WebRequest request
     ) {
         Long meId = authService.getUserId(me);
-        return ApiResponse.onSuccess(homeService.getFamilySummary(meId));
+        return ConditionalGet.respond(request, homeService.getFamilySummaryVersion(meId),
+                () -> homeService.getFamilySummary(meId));
     }
 
     @Operation(summary = "활성 토픽의 우리 가족 답변 조회", description = "로그인 사용자의 가족 기준으로, 활성 토픽에 남긴 모든 답변(본인 포함)을 조회합니다.")
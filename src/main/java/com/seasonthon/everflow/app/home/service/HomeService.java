@@ -1,18 +1,16 @@
 package com.seasonthon.everflow.app.home.service;
 
+import com.seasonthon.everflow.app.family.service.FamilyRosterCache;
 import com.seasonthon.everflow.app.global.code.status.ErrorStatus;
 import com.seasonthon.everflow.app.global.exception.GeneralException;
 import com.seasonthon.everflow.app.global.oauth.service.AuthService;
 import com.seasonthon.everflow.app.home.dto.ClosenessResponseDto;
 import com.seasonthon.everflow.app.home.dto.FamilySummaryResponseDto;
-import com.seasonthon.everflow.app.topic.repository.TopicAnswerRepository;
-import com.seasonthon.everflow.app.user.domain.User;
-import com.seasonthon.everflow.app.user.repository.UserRepository;
+import com.seasonthon.everflow.app.topic.service.ParticipationCounter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
 import java.util.*;
 
 @Service
@@ -20,33 +18,25 @@ import java.util.*;
 @Transactional(readOnly = true)
 public class HomeService {
 
-    private final TopicAnswerRepository answerRepository;
+    private final ParticipationCounter participationCounter;
     private final AuthService authService;
-    private final UserRepository userRepository;
+    private final FamilyRosterCache familyRosterCache;
 
     public ClosenessResponseDto getCloseness(Long userId, Long familyId) {
-        LocalDateTime from = LocalDateTime.now().minusDays(30);
+        Map<Long, Long> counts = participationCounter.countsByMember(familyId);
 
-        long myCount = answerRepository.countSinceByUser(userId, from);
+        long myCount = counts.getOrDefault(userId, 0L);
 
 
         if (myCount == 0) {
             return new ClosenessResponseDto(0, 0, 0, 0, familyId);
         }
 
-        List<Object[]> grouped = answerRepository.countSinceByFamilyGroup(familyId, from);
-        if (grouped.isEmpty()) {
+        if (counts.isEmpty()) {
             throw new GeneralException(ErrorStatus.FAMILY_PARTICIPATION_NOT_FOUND);
         }
 
-        long familyMax = 0;
-        Map<Long, Long> counts = new HashMap<>();
-        for (Object[] row : grouped) {
-            Long uid = (Long) row[0];
-            long cnt = ((Number) row[1]).longValue();
-            counts.put(uid, cnt);
-            familyMax = Math.max(familyMax, cnt);
-        }
+        long familyMax = counts.values().stream().mapToLong(Long::longValue).max().orElse(0);
 
         if (familyMax == 0) {
             return new ClosenessResponseDto(0, myCount, 0, 1, familyId);
@@ -65,6 +55,14 @@ public class HomeService {
         return new ClosenessResponseDto(pct, myCount, familyMax, rank, familyId);
     }
 
+    /**
+     * 가족 책장 목록 응답의 버전 키 (가족 구성원 캐시 버전)
+     */
+    public String getFamilySummaryVersion(Long userId) {
+        Long familyId = authService.getFamilyId(userId);
+        return familyId + ":" + familyRosterCache.get(familyId).version();
+    }
+
     @Transactional(readOnly = true)
     public FamilySummaryResponseDto getFamilySummary(Long userId) {
         Long familyId = authService.getFamilyId(userId);
@@ -72,16 +70,16 @@ public class HomeService {
             throw new GeneralException(ErrorStatus.BOOKSHELF_FAMILY_NOT_FOUND);
         }
 
-        List<User> members = userRepository.findAllByFamilyId(familyId);
-        if (members == null || members.isEmpty()) {
+        FamilyRosterCache.FamilyRoster roster = familyRosterCache.get(familyId);
+        if (roster.isEmpty()) {
             throw new GeneralException(ErrorStatus.BOOKSHELF_MEMBERS_NOT_FOUND);
         }
 
-        List<FamilySummaryResponseDto.FamilyMemberSummary> list = members.stream()
-                .map(u -> new FamilySummaryResponseDto.FamilyMemberSummary(
-                        u.getId(),
-                        u.getNickname(),
-                        u.getShelfColor() != null ? u.getShelfColor().name() : null
+        List<FamilySummaryResponseDto.FamilyMemberSummary> list = roster.members().stream()
+                .map(m -> new FamilySummaryResponseDto.FamilyMemberSummary(
+                        m.userId(),
+                        m.nickname(),
+                        m.shelfColor()
                 ))
                 .toList();
 
@@ -0,0 +1,33 @@
+package com.seasonthon.everflow.app.memo.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 메모 변경 SSE 페이로드
+ * - 알림 페이로드와 구분하기 위해 eventType을 포함한다.
+ * - 클라이언트는 보유한 version보다 큰 경우에만 반영한다.
+ */
+public record MemoChangedSseDto(
+        String eventType,
+        Long memoId,
+        int version,
+        Long editorId,
+        String editorNickname,
+        String content,
+        LocalDateTime updatedAt
+) {
+
+    public static final String EVENT_TYPE = "MEMO_UPDATED";
+
+    public static MemoChangedSseDto of(Long editorId, MemoDto memo) {
+        return new MemoChangedSseDto(
+                EVENT_TYPE,
+                memo.id(),
+                memo.version(),
+                editorId,
+                memo.updatedByNickname(),
+                memo.content(),
+                memo.updatedAt()
+        );
+    }
+}
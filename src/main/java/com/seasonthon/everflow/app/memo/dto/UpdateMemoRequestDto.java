@@ -2,6 +2,10 @@ package com.seasonthon.everflow.app.memo.dto;
 
 import jakarta.validation.constraints.Size;
 
+/**
+ * @param version 클라이언트가 수정 기준으로 삼은 메모 version (생략 시 버전 확인 없이 덮어쓰기)
+ */
 public record UpdateMemoRequestDto(
-        @Size(max = 800) String content
+        @Size(max = 800) String content,
+        Integer version
 ) {}
@@ -0,0 +1,10 @@
+package com.seasonthon.everflow.app.memo.event;
+
+import com.seasonthon.everflow.app.memo.dto.MemoDto;
+
+/**
+ * 가족 공유 메모가 수정되었음을 알리는 이벤트
+ * - 커밋 이후 MemoUpdateBroadcaster가 가족 구성원의 SSE 구독자에게 변경 내용을 전달한다.
+ */
+public record MemoUpdatedEvent(Long familyId, Long editorId, MemoDto memo) {
+}
@@ -1,12 +1,36 @@
 package com.seasonthon.everflow.app.memo.repository;
 
 import com.seasonthon.everflow.app.memo.domain.Memo;
+import com.seasonthon.everflow.app.user.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface MemoRepository extends JpaRepository<Memo, Long> {
     Optional<Memo> findByFamilyId(Long familyId);
     boolean existsByFamilyId(Long familyId);
 
+    // 조건부 GET 버전 계산용 (본문 로딩 없이 version, updatedAt만 조회)
+    @Query("select m.version, m.updatedAt from Memo m where m.familyId = :familyId")
+    List<Object[]> findVersionByFamilyId(@Param("familyId") Long familyId);
+
+    // 버전 조건부 수정 (expectedVersion이 null이면 버전 확인 없이 수정), 반영된 행 수 반환
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+      update Memo m
+      set m.content = :content, m.updatedBy = :editor, m.updatedAt = :now, m.version = m.version + 1
+      where m.familyId = :familyId
+        and (:expectedVersion is null or m.version = :expectedVersion)
+    """)
+    int updateContentIfVersion(@Param("familyId") Long familyId,
+                               @Param("content") String content,
+                               @Param("editor") User editor,
+                               @Param("now") LocalDateTime now,
+                               @Param("expectedVersion") Integer expectedVersion);
+
 }
@@ -1,22 +1,32 @@
 package com.seasonthon.everflow.app.memo.service;
 
+import com.seasonthon.everflow.app.family.service.FamilyRosterCache;
+import com.seasonthon.everflow.app.global.context.MemberContext;
 import com.seasonthon.everflow.app.global.exception.GeneralException;
 import com.seasonthon.everflow.app.global.code.status.ErrorStatus;
 import com.seasonthon.everflow.app.memo.domain.Memo;
 import com.seasonthon.everflow.app.memo.dto.MemoDto;
 import com.seasonthon.everflow.app.memo.dto.MemoMapper;
+import com.seasonthon.everflow.app.memo.event.MemoUpdatedEvent;
 import com.seasonthon.everflow.app.memo.repository.MemoRepository;
 import com.seasonthon.everflow.app.user.domain.User;
 import com.seasonthon.everflow.app.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class MemoService {
     private final MemoRepository memoRepository;
     private final UserRepository userRepository;
+    private final MemberContext memberContext;
+    private final FamilyRosterCache familyRosterCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public MemoDto getOrCreate(Long userId) {
@@ -30,34 +40,53 @@ public class MemoService {
                 });
     }
 
+    /**
+     * 메모 조회 응답의 버전 키 (메모 version/수정 시각 + 수정자 닉네임 반영을 위한 가족 구성원 버전)
+     * - 메모가 아직 없으면 null (조건부 응답 없이 생성)
+     */
+    @Transactional(readOnly = true)
+    public String getVersion(Long userId) {
+        Long familyId = resolveFamilyId(userId);
+        List<Object[]> rows = memoRepository.findVersionByFamilyId(familyId);
+        if (rows.isEmpty()) {
+            return null;
+        }
+        Object[] row = rows.get(0);
+        return familyId + ":" + row[0] + ":" + row[1] + ":" + familyRosterCache.get(familyId).version();
+    }
+
+    /**
+     * 메모 수정
+     * - expectedVersion이 있으면 DB에서 버전 조건부로 갱신하고, 충돌 시 최신 메모를 담아 409를 반환한다.
+     * - 커밋 이후 가족 구성원에게 변경 내용을 SSE로 전달한다.
+     */
     @Transactional
-    public MemoDto update(Long userId, String content) {
+    public MemoDto update(Long userId, String content, Integer expectedVersion) {
         Long familyId = resolveFamilyId(userId);
-        Memo memo = memoRepository.findByFamilyId(familyId)
-                .orElseThrow(() -> new GeneralException(ErrorStatus.MEMO_NOT_FOUND));
 
         if (content != null && content.length() > 800) {
             throw new GeneralException(ErrorStatus.MEMO_CONTENT_TOO_LONG);
         }
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new GeneralException(ErrorStatus.USER_NOT_FOUND));
+        // 수정자 연관관계만 필요하므로 조회 없이 참조만 사용
+        User user = userRepository.getReferenceById(userId);
+
+        int updated = memoRepository.updateContentIfVersion(
+                familyId, (content == null) ? "" : content, user, LocalDateTime.now(), expectedVersion);
+        Memo memo = memoRepository.findByFamilyId(familyId)
+                .orElseThrow(() -> new GeneralException(ErrorStatus.MEMO_NOT_FOUND));
+        MemoDto latest = MemoMapper.toDto(memo);
 
-        memo.applyContent(content, user);
-        try {
-            Memo saved = memoRepository.save(memo);
-            return MemoMapper.toDto(saved);
-        } catch (jakarta.persistence.OptimisticLockException e) {
-            throw new GeneralException(ErrorStatus.VERSION_CONFLICT);
+        if (updated == 0) {
+            throw new GeneralException(ErrorStatus.VERSION_CONFLICT, latest);
         }
+
+        eventPublisher.publishEvent(new MemoUpdatedEvent(familyId, userId, latest));
+        return latest;
     }
 
     private Long resolveFamilyId(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new GeneralException(ErrorStatus.USER_NOT_FOUND));
-        if (user.getFamily() == null) {
-            throw new GeneralException(ErrorStatus.NOT_IN_FAMILY_YET);
-        }
-        return user.getFamily().getId();
+        return memberContext.familyIdOf(userId)
+                .orElseThrow(() -> new GeneralException(ErrorStatus.NOT_IN_FAMILY_YET));
     }
 }
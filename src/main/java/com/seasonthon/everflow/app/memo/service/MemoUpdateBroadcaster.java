@@ -0,0 +1,35 @@
+package com.seasonthon.everflow.app.memo.service;
+
+import com.seasonthon.everflow.app.family.service.FamilyRosterCache;
+import com.seasonthon.everflow.app.memo.dto.MemoChangedSseDto;
+import com.seasonthon.everflow.app.memo.event.MemoUpdatedEvent;
+import com.seasonthon.everflow.app.notification.service.NotificationBroadcaster;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 메모 수정 커밋 이후 가족 구성원 전체(수정자의 다른 기기 포함)에게 변경 내용을 SSE로 전달한다.
+ * - 알림이 아니므로 저장/재전송 버퍼 없이 id 없는 이벤트로 전송한다. (재연결 시 클라이언트가 GET /api/memo로 동기화)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MemoUpdateBroadcaster {
+
+    private final FamilyRosterCache familyRosterCache;
+    private final NotificationBroadcaster notificationBroadcaster;
+
+    @Async("notificationExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMemoUpdated(MemoUpdatedEvent event) {
+        MemoChangedSseDto payload = MemoChangedSseDto.of(event.editorId(), event.memo());
+        for (FamilyRosterCache.Member member : familyRosterCache.get(event.familyId()).members()) {
+            notificationBroadcaster.broadcast(member.userId(), null, payload);
+        }
+        log.info("Memo update broadcast. familyId={}, version={}", event.familyId(), payload.version());
+    }
+}
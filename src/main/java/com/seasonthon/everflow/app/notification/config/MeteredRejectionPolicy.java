@@ -0,0 +1,48 @@
+package com.seasonthon.everflow.app.notification.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Executor 포화 시 호출 스레드를 막지 않고 작업을 거절한다. (executor.rejected 카운터 + 경고 로그)
+ * - discard: 작업을 버린다. (@Async 호출부로 예외가 전파되지 않음)
+ * - abort: RejectedExecutionException을 던져 호출부가 직접 처리하게 한다.
+ */
+@Slf4j
+public class MeteredRejectionPolicy implements RejectedExecutionHandler {
+
+    private final String executorName;
+    private final Counter rejectedCounter;
+    private final boolean abort;
+
+    private MeteredRejectionPolicy(String executorName, MeterRegistry meterRegistry, boolean abort) {
+        this.executorName = executorName;
+        this.abort = abort;
+        this.rejectedCounter = Counter.builder("executor.rejected")
+                .description("Executor 포화로 거절된 작업 수")
+                .tag("executor", executorName)
+                .register(meterRegistry);
+    }
+
+    public static MeteredRejectionPolicy discard(String executorName, MeterRegistry meterRegistry) {
+        return new MeteredRejectionPolicy(executorName, meterRegistry, false);
+    }
+
+    public static MeteredRejectionPolicy abort(String executorName, MeterRegistry meterRegistry) {
+        return new MeteredRejectionPolicy(executorName, meterRegistry, true);
+    }
+
+    @Override
+    public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+        rejectedCounter.increment();
+        log.warn("{} 포화로 작업 거절 (active={}, queue={})",
+                executorName, executor.getActiveCount(), executor.getQueue().size());
+        if (abort) {
+            throw new RejectedExecutionException(executorName + " saturated");
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.seasonthon.everflow.app.notification.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@EnableAsync
+@Configuration
+public class NotificationAsyncConfig {
+
+    /**
+     * 알림 SSE 전송 전용 Executor (알림 행은 요청 트랜잭션 안에서 이미 저장됨)
+     * - 커밋 이후 콜백(요청 스레드)에서 제출되므로 포화 시에도 호출 스레드에서 실행하지 않는다.
+     * - 큐를 넉넉히 두고, 그래도 가득 차면 실시간 전송만 버리고 executor.rejected 카운터로 알린다.
+     */
+    @Bean(name = "notificationExecutor")
+    public ThreadPoolTaskExecutor notificationExecutor(MeterRegistry meterRegistry) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(10_000);
+        executor.setThreadNamePrefix("notification-");
+        executor.setRejectedExecutionHandler(MeteredRejectionPolicy.discard("notificationExecutor", meterRegistry));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * SSE heartbeat 병렬 전송용 Executor (동시 전송 수 제한)
+     * - 포화 시 RejectedExecutionException을 던지고, 스케줄러가 해당 연결을 다음 주기로 넘긴다.
+     */
+    @Bean(name = "sseHeartbeatExecutor")
+    public ThreadPoolTaskExecutor sseHeartbeatExecutor(MeterRegistry meterRegistry) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(5000);
+        executor.setThreadNamePrefix("sse-heartbeat-");
+        executor.setRejectedExecutionHandler(MeteredRejectionPolicy.abort("sseHeartbeatExecutor", meterRegistry));
+        executor.initialize();
+        return executor;
+    }
+}
@@ -28,16 +28,20 @@ public class NotificationController {
     private final NotificationService notificationService;
     private final JwtService jwtService;
 
-    @Operation(summary = "알림 구독", description = "실시간 알림을 받기 위해 SSE 연결을 설정합니다. (text/event-stream)")
+    @Operation(summary = "알림 구독", description = "실시간 알림을 받기 위해 SSE 연결을 설정합니다. (text/event-stream) 재연결 시 Last-Event-ID 이후 알림만 재전송합니다.")
     @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter subscribe(@RequestParam("token") String token) {
+    public SseEmitter subscribe(@RequestParam("token") String token,
+                                @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventIdHeader,
+                                @RequestParam(value = "lastEventId", required = false) Long lastEventIdParam) {
         if (!jwtService.isTokenValid(token)) {
             throw new GeneralException(ErrorStatus.INVALID_TOKEN);
         }
         Long userId = jwtService.extractUserId(token)
                 .orElseThrow(() -> new GeneralException(ErrorStatus.USER_NOT_FOUND));
 
-        return notificationService.subscribe(userId);
+        // EventSource는 헤더로, 헤더를 못 붙이는 클라이언트는 쿼리 파라미터로 전달
+        Long lastEventId = (lastEventIdHeader != null) ? lastEventIdHeader : lastEventIdParam;
+        return notificationService.subscribe(userId, lastEventId);
     }
 
     @Operation(summary = "알림 읽기", description = "알림상태를 읽기로 전환합니다.")
@@ -79,6 +83,19 @@ public class NotificationController {
         return ResponseEntity.ok(ApiResponse.of(SuccessStatus.OK, resultDtoList));
     }
 
+    @Operation(summary = "내 알림 페이지 조회", description = "읽지 않은 알림을 커서 기반으로 조회합니다. 다음 페이지는 응답의 nextCursor를 cursor로 전달합니다.")
+    @GetMapping("/page")
+    public ResponseEntity<ApiResponse<NotificationResponseDto.NotificationPageResponseDto>> getNotificationPage(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        NotificationResponseDto.NotificationPageResponseDto resultDto =
+                notificationService.getNotificationPage(userDetails.getUserId(), cursor, size);
+
+        return ResponseEntity.ok(ApiResponse.of(SuccessStatus.OK, resultDto));
+    }
+
     @Operation(summary = "내 최근 알림 3개 조회", description = "읽지 않은 최근 알림 3개를 조회합니다.")
     @GetMapping("/recent")
     public ResponseEntity<ApiResponse<List<NotificationResponseDto.NotificationGetResponseDto>>> getRecentNotifications(
@@ -90,4 +107,15 @@ public class NotificationController {
 
         return ResponseEntity.ok(ApiResponse.of(SuccessStatus.OK, resultDtoList));
     }
+
+    @Operation(summary = "내 알림 요약 조회", description = "읽지 않은 알림 개수와 최근 알림 3개를 조회합니다.")
+    @GetMapping("/summary")
+    public ResponseEntity<ApiResponse<NotificationResponseDto.SummaryResponseDto>> getSummary(
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        NotificationResponseDto.SummaryResponseDto resultDto =
+                notificationService.getSummary(userDetails.getUserId());
+
+        return ResponseEntity.ok(ApiResponse.of(SuccessStatus.OK, resultDto));
+    }
 }
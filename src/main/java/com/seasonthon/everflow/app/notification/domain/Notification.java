@@ -13,7 +13,10 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "notifications")
+@Table(
+        name = "notifications",
+        indexes = @Index(name = "idx_notifications_user_read_created", columnList = "user_id, read_status, created_at")
+)
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -1,5 +1,7 @@
 package com.seasonthon.everflow.app.notification.dto;
 
+import com.seasonthon.everflow.app.notification.domain.NotificationType;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -19,5 +21,32 @@ public class NotificationResponseDto {
         private String contentText;
         private String link;
 
+        public static NotificationGetResponseDto of(Long notificationId, NotificationType type, String contentText, String link) {
+            return new NotificationGetResponseDto(notificationId, toTypeString(type), contentText, link);
+        }
+
+        private static String toTypeString(NotificationType type) {
+            return switch (type) {
+                case APPOINTMENT_ACTION, APPOINTMENT_RESPONSE -> "약속알림";
+                case FAMILY_ACTION, FAMILY_RESPONSE -> "구성원알림";
+                case ANSWER_RESPONSE -> "오늘의 질문 알림";
+                default -> "기타알림";
+            };
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class NotificationPageResponseDto {
+        private List<NotificationGetResponseDto> notifications;
+        private Long nextCursor;
+        private boolean hasNext;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class SummaryResponseDto {
+        private long unreadCount;
+        private List<NotificationGetResponseDto> recent;
     }
 }
@@ -0,0 +1,18 @@
+package com.seasonthon.everflow.app.notification.dto;
+
+import com.seasonthon.everflow.app.notification.domain.NotificationType;
+
+/**
+ * 알림 목록 조회용 JPQL 프로젝션 (엔티티 로딩 없이 필요한 컬럼만 조회)
+ */
+public record NotificationRow(
+        Long notificationId,
+        NotificationType notificationType,
+        String contentText,
+        String link
+) {
+
+    public NotificationResponseDto.NotificationGetResponseDto toResponseDto() {
+        return NotificationResponseDto.NotificationGetResponseDto.of(notificationId, notificationType, contentText, link);
+    }
+}
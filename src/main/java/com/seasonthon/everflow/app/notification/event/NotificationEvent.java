@@ -0,0 +1,24 @@
+package com.seasonthon.everflow.app.notification.event;
+
+import com.seasonthon.everflow.app.notification.domain.NotificationType;
+import java.util.List;
+
+/**
+ * 하나의 이벤트(답변 작성, 약속 신청 등)로 발생한 알림 묶음
+ * - 발행한 트랜잭션 안에서 일괄 저장되고, 커밋 이후 NotificationDispatcher에서 전송된다.
+ */
+public record NotificationEvent(
+        NotificationType type,
+        String link,
+        List<Recipient> recipients
+) {
+
+    public record Recipient(Long userId, String contentText) {}
+
+    public static NotificationEvent of(NotificationType type, String contentText, String link, List<Long> userIds) {
+        List<Recipient> recipients = userIds.stream()
+                .map(userId -> new Recipient(userId, contentText))
+                .toList();
+        return new NotificationEvent(type, link, recipients);
+    }
+}
@@ -0,0 +1,13 @@
+package com.seasonthon.everflow.app.notification.event;
+
+import java.util.List;
+
+/**
+ * 요청 트랜잭션 안에서 저장된 알림 묶음 (notificationIds는 수신자 순서와 같음)
+ * - 커밋 이후 NotificationDispatcher에서 SSE로 전송된다.
+ */
+public record NotificationSavedEvent(
+        NotificationEvent event,
+        List<Long> notificationIds
+) {
+}
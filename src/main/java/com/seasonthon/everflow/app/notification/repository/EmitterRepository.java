@@ -1,46 +1,83 @@
 package com.seasonthon.everflow.app.notification.repository;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.springframework.stereotype.Repository;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Repository
-@RequiredArgsConstructor
 public class EmitterRepository {
 
-    // 모든 Emitter를 저장하는 ConcurrentHashMap
-    private final Map<String, SseEmitter> emitters = new ConcurrentHashMap<>();
+    // userId -> (emitterId -> Emitter) 2단계 구조로 저장 (사용자별 조회/삭제 O(1))
+    private final Map<Long, Map<String, SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    // 현재 노드에 연결된 Emitter 수
+    private final AtomicInteger connectionCount = new AtomicInteger();
+
+    public EmitterRepository(MeterRegistry meterRegistry) {
+        Gauge.builder("sse.emitters.active", connectionCount, AtomicInteger::get)
+                .description("현재 노드에 연결된 SSE Emitter 수")
+                .register(meterRegistry);
+    }
 
     /**
      * Emitter를 저장한다.
      */
-    public void save(String emitterId, SseEmitter sseEmitter) {
-        emitters.put(emitterId, sseEmitter);
+    public void save(Long userId, String emitterId, SseEmitter sseEmitter) {
+        emitters.compute(userId, (key, userEmitters) -> {
+            Map<String, SseEmitter> bucket = (userEmitters != null) ? userEmitters : new ConcurrentHashMap<>();
+            if (bucket.put(emitterId, sseEmitter) == null) {
+                connectionCount.incrementAndGet();
+            }
+            return bucket;
+        });
     }
 
     /**
-     * Emitter를 삭제한다.
+     * Emitter를 삭제한다. (마지막 Emitter가 삭제되면 사용자 버킷도 제거)
      */
-    public void deleteById(String emitterId) {
-        emitters.remove(emitterId);
+    public void deleteById(Long userId, String emitterId) {
+        emitters.computeIfPresent(userId, (key, userEmitters) -> {
+            if (userEmitters.remove(emitterId) != null) {
+                connectionCount.decrementAndGet();
+            }
+            return userEmitters.isEmpty() ? null : userEmitters;
+        });
     }
 
     /**
      * 해당 사용자 ID와 관련된 모든 Emitter를 찾는다.
      */
-    public Map<String, SseEmitter> findAllByUserId(String userId) {
-        return emitters.entrySet().stream()
-                .filter(entry -> entry.getKey().startsWith(userId))
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    public Map<String, SseEmitter> findAllByUserId(Long userId) {
+        Map<String, SseEmitter> userEmitters = emitters.get(userId);
+        return (userEmitters != null) ? Collections.unmodifiableMap(userEmitters) : Collections.emptyMap();
+    }
+
+    /**
+     * 현재 노드의 모든 Emitter (userId -> (emitterId -> Emitter))
+     */
+    public Map<Long, Map<String, SseEmitter>> findAll() {
+        return Collections.unmodifiableMap(emitters);
     }
+
     /**
      * userId에 해당하는 모든 emitter를 삭제
      */
     public void deleteAllByUserId(Long userId) {
-        String prefix = String.valueOf(userId);
-        emitters.keySet().removeIf(key -> key.startsWith(prefix));
+        Map<String, SseEmitter> removed = emitters.remove(userId);
+        if (removed != null) {
+            connectionCount.addAndGet(-removed.size());
+        }
+    }
+
+    /**
+     * 현재 노드에 연결된 Emitter 수
+     */
+    public int count() {
+        return connectionCount.get();
     }
 }
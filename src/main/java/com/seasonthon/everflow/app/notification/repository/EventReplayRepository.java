@@ -0,0 +1,85 @@
+package com.seasonthon.everflow.app.notification.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 사용자별로 최근 전송한 SSE 이벤트를 제한된 크기의 링 버퍼에 보관한다.
+ * - 재연결 시 Last-Event-ID 이후 이벤트만 재전송하기 위함
+ */
+@Repository
+public class EventReplayRepository {
+
+    private static final int BUFFER_SIZE = 50;
+
+    private final Cache<Long, UserBuffer> buffers = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterAccess(Duration.ofMinutes(30))
+            .build();
+
+    public record ReplayEvent(Long id, String data) {}
+
+    public void append(Long userId, Long eventId, String data) {
+        buffers.get(userId, key -> new UserBuffer()).append(new ReplayEvent(eventId, data));
+    }
+
+    /**
+     * lastEventId 이후에 전송된 이벤트를 반환한다.
+     * 버퍼가 없거나 lastEventId 이벤트가 이미 밀려났으면 empty (DB에서 조회 필요)
+     */
+    public Optional<List<ReplayEvent>> findAfter(Long userId, Long lastEventId) {
+        UserBuffer buffer = buffers.getIfPresent(userId);
+        if (buffer == null) {
+            return Optional.empty();
+        }
+        return buffer.findAfter(lastEventId);
+    }
+
+    public void deleteAllByUserId(Long userId) {
+        buffers.invalidate(userId);
+    }
+
+    private static class UserBuffer {
+
+        // 전송(append) 순서대로 보관한다. 여러 스레드/노드에서 전송되므로 ID 순서와 다를 수 있다.
+        private final Deque<Entry> entries = new ArrayDeque<>(BUFFER_SIZE);
+        private long sequence;
+
+        private record Entry(long seq, ReplayEvent event) {}
+
+        synchronized void append(ReplayEvent event) {
+            if (entries.size() == BUFFER_SIZE) {
+                entries.pollFirst();
+            }
+            entries.addLast(new Entry(++sequence, event));
+        }
+
+        /**
+         * 클라이언트가 마지막으로 받은 이벤트 이후에 전송된 이벤트를 ID 순으로 반환한다.
+         * - ID가 더 크거나, ID는 작아도 그 이벤트보다 늦게 전송된(뒤늦게 도착한) 이벤트를 포함
+         * - 마지막 이벤트가 버퍼에 없으면 이후 구간이 온전한지 알 수 없으므로 empty
+         */
+        synchronized Optional<List<ReplayEvent>> findAfter(Long lastEventId) {
+            Entry last = entries.stream()
+                    .filter(entry -> entry.event().id().equals(lastEventId))
+                    .findFirst()
+                    .orElse(null);
+            if (last == null) {
+                return Optional.empty();
+            }
+            return Optional.of(entries.stream()
+                    .filter(entry -> entry.event().id() > lastEventId || entry.seq() > last.seq())
+                    .map(Entry::event)
+                    .filter(event -> !event.id().equals(lastEventId))
+                    .sorted(Comparator.comparing(ReplayEvent::id))
+                    .toList());
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.seasonthon.everflow.app.notification.repository;
+
+import com.seasonthon.everflow.app.notification.domain.ReadStatus;
+import com.seasonthon.everflow.app.notification.event.NotificationEvent;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class NotificationJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO notifications (user_id, notification_type, content_text, read_status, link, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 이벤트의 모든 수신자 알림을 하나의 JDBC batch로 저장하고, 생성된 notification_id를 수신자 순서대로 반환한다.
+     */
+    public List<Long> saveAll(NotificationEvent event) {
+        List<NotificationEvent.Recipient> recipients = event.recipients();
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        NotificationEvent.Recipient recipient = recipients.get(i);
+                        ps.setLong(1, recipient.userId());
+                        ps.setString(2, event.type().name());
+                        ps.setString(3, recipient.contentText());
+                        ps.setString(4, ReadStatus.UNREAD.name());
+                        ps.setString(5, event.link());
+                        ps.setTimestamp(6, createdAt);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return recipients.size();
+                    }
+                },
+                keyHolder
+        );
+
+        return keyHolder.getKeyList().stream()
+                .map(Map::values)
+                .map(values -> ((Number) values.iterator().next()).longValue())
+                .toList();
+    }
+}
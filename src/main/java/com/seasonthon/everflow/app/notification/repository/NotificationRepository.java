@@ -3,6 +3,8 @@ package com.seasonthon.everflow.app.notification.repository;
 import com.seasonthon.everflow.app.notification.domain.Notification;
 import com.seasonthon.everflow.app.notification.domain.NotificationType;
 import com.seasonthon.everflow.app.notification.domain.ReadStatus;
+import com.seasonthon.everflow.app.notification.dto.NotificationRow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -14,6 +16,7 @@ import java.util.Optional;
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
     List<Notification> findAllByUserIdAndReadStatusOrderByCreatedAtDesc(Long userId, ReadStatus readStatus);
     List<Notification> findTop3ByUserIdAndReadStatusOrderByCreatedAtDesc(Long userId, ReadStatus readStatus);
+    long countByUserIdAndReadStatus(Long userId, ReadStatus readStatus);
 
     // 새롭게 추가된 코드
     Optional<Notification> findByUserIdAndLinkAndNotificationType(Long userId, String link, NotificationType notificationType);
@@ -28,4 +31,34 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
             @Param("excludedTypes") List<NotificationType> excludedTypes
     );
     void deleteAllByUserId(Long userId);
+
+    // 커서 기반 알림 목록 (첫 페이지)
+    @Query("SELECT new com.seasonthon.everflow.app.notification.dto.NotificationRow(" +
+            "n.id, n.notificationType, n.contentText, n.link) " +
+            "FROM Notification n " +
+            "WHERE n.user.id = :userId AND n.readStatus = :readStatus " +
+            "ORDER BY n.createdAt DESC, n.id DESC")
+    List<NotificationRow> findPageByUserId(
+            @Param("userId") Long userId,
+            @Param("readStatus") ReadStatus readStatus,
+            Pageable pageable
+    );
+
+    // 커서 기반 알림 목록 (cursor 알림 이후, (created_at, id) 기준 keyset)
+    @Query("SELECT new com.seasonthon.everflow.app.notification.dto.NotificationRow(" +
+            "n.id, n.notificationType, n.contentText, n.link) " +
+            "FROM Notification n " +
+            "WHERE n.user.id = :userId AND n.readStatus = :readStatus " +
+            "AND (n.createdAt < (SELECT c.createdAt FROM Notification c WHERE c.id = :cursor) " +
+            "  OR (n.createdAt = (SELECT c.createdAt FROM Notification c WHERE c.id = :cursor) AND n.id < :cursor)) " +
+            "ORDER BY n.createdAt DESC, n.id DESC")
+    List<NotificationRow> findPageByUserIdAfterCursor(
+            @Param("userId") Long userId,
+            @Param("readStatus") ReadStatus readStatus,
+            @Param("cursor") Long cursor,
+            Pageable pageable
+    );
+
+    // SSE 재연결 시 Last-Event-ID 이후 알림 조회 (PK가 이벤트 ID)
+    List<Notification> findByUserIdAndIdGreaterThanOrderByIdAsc(Long userId, Long id, Pageable pageable);
 }
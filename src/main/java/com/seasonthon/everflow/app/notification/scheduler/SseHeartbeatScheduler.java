@@ -0,0 +1,91 @@
+package com.seasonthon.everflow.app.notification.scheduler;
+
+import com.seasonthon.everflow.app.notification.repository.EmitterRepository;
+import com.seasonthon.everflow.app.notification.service.SseSender;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 모든 SSE 연결에 주기적으로 heartbeat를 보내고, 쓰기에 실패한 (끊긴) 연결을 정리한다.
+ * - 스케줄러 스레드는 전송을 제출만 하고 완료를 기다리지 않는다. (멈춘 소켓이 다른 스케줄 작업을 지연시키지 않도록)
+ * - 이전 주기의 전송이 끝나지 않았으면 이번 주기는 건너뛰고, 한 주기는 최대 heartbeat 간격까지만 기다린다.
+ */
+@Slf4j
+@Component
+public class SseHeartbeatScheduler {
+
+    private final EmitterRepository emitterRepository;
+    private final SseSender sseSender;
+    private final ThreadPoolTaskExecutor heartbeatExecutor;
+    private final long heartbeatInterval;
+
+    // 이전 주기 전송이 진행 중인지 여부
+    private final AtomicBoolean inFlight = new AtomicBoolean(false);
+
+    public SseHeartbeatScheduler(EmitterRepository emitterRepository,
+                                 SseSender sseSender,
+                                 @Qualifier("sseHeartbeatExecutor") ThreadPoolTaskExecutor heartbeatExecutor,
+                                 @Value("${everflow.sse.heartbeat-interval:30000}") long heartbeatInterval) {
+        this.emitterRepository = emitterRepository;
+        this.sseSender = sseSender;
+        this.heartbeatExecutor = heartbeatExecutor;
+        this.heartbeatInterval = heartbeatInterval;
+    }
+
+    @Scheduled(fixedDelayString = "${everflow.sse.heartbeat-interval:30000}",
+            initialDelayString = "${everflow.sse.heartbeat-interval:30000}")
+    public void sendHeartbeats() {
+        if (emitterRepository.count() == 0) {
+            return;
+        }
+        if (!inFlight.compareAndSet(false, true)) {
+            log.warn("SSE heartbeat: 이전 주기 전송이 아직 진행 중이어서 이번 주기를 건너뜀");
+            return;
+        }
+
+        AtomicInteger evicted = new AtomicInteger();
+        AtomicInteger skipped = new AtomicInteger();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        emitterRepository.findAll().forEach((userId, userEmitters) ->
+                userEmitters.forEach((emitterId, emitter) -> {
+                    try {
+                        futures.add(CompletableFuture.runAsync(() -> {
+                            if (!sseSender.sendHeartbeat(userId, emitterId, emitter)) {
+                                evicted.incrementAndGet();
+                            }
+                        }, heartbeatExecutor));
+                    } catch (RejectedExecutionException e) {
+                        // Executor 포화: 이번 주기는 건너뛰고 다음 heartbeat에서 다시 전송
+                        skipped.incrementAndGet();
+                    }
+                }));
+
+        if (skipped.get() > 0) {
+            log.warn("SSE heartbeat: Executor 포화로 {}건 다음 주기로 연기", skipped.get());
+        }
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .orTimeout(heartbeatInterval, TimeUnit.MILLISECONDS)
+                .whenComplete((ignored, error) -> {
+                    inFlight.set(false);
+                    if (error != null) {
+                        log.warn("SSE heartbeat: 주기 내에 완료되지 않은 전송이 있음 - {}", error.toString());
+                    }
+                    if (evicted.get() > 0) {
+                        log.info("SSE heartbeat: 끊긴 연결 {}건 정리 (남은 연결: {})", evicted.get(), emitterRepository.count());
+                    }
+                });
+    }
+}
@@ -0,0 +1,18 @@
+package com.seasonthon.everflow.app.notification.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "everflow.redis.enabled", havingValue = "false", matchIfMissing = true)
+public class LocalNotificationBroadcaster implements NotificationBroadcaster {
+
+    private final SseSender sseSender;
+
+    @Override
+    public void broadcast(Long userId, Long eventId, Object data) {
+        sseSender.sendToUser(userId, eventId, data);
+    }
+}
@@ -0,0 +1,12 @@
+package com.seasonthon.everflow.app.notification.service;
+
+/**
+ * 사용자에게 SSE 이벤트를 전달한다.
+ * - Local: 현재 노드의 Emitter로만 전송 (단일 인스턴스)
+ * - Redis: 채널에 발행하여 모든 노드가 각자의 Emitter로 전송 (다중 인스턴스)
+ * eventId는 SSE id로 사용되며 재연결 시 Last-Event-ID 기준으로 재전송된다.
+ */
+public interface NotificationBroadcaster {
+
+    void broadcast(Long userId, Long eventId, Object data);
+}
@@ -0,0 +1,42 @@
+package com.seasonthon.everflow.app.notification.service;
+
+import com.seasonthon.everflow.app.notification.dto.NotificationResponseDto;
+import com.seasonthon.everflow.app.notification.event.NotificationEvent;
+import com.seasonthon.everflow.app.notification.event.NotificationSavedEvent;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 저장된 알림을 요청 트랜잭션 커밋 이후 별도 Executor에서 SSE로 전송한다.
+ * - 느린 클라이언트가 요청 스레드/DB 커넥션을 점유하지 않도록
+ * - 알림 행은 NotificationService.publish에서 이미 저장되었으므로, Executor 포화로 작업이 버려져도
+ *   실시간 전송만 생략되고 알림은 목록 조회/재연결 시 DB에서 전달된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationDispatcher {
+
+    private final NotificationBroadcaster notificationBroadcaster;
+
+    @Async("notificationExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void dispatch(NotificationSavedEvent saved) {
+        NotificationEvent event = saved.event();
+        List<NotificationEvent.Recipient> recipients = event.recipients();
+        List<Long> notificationIds = saved.notificationIds();
+
+        for (int i = 0; i < recipients.size(); i++) {
+            NotificationEvent.Recipient recipient = recipients.get(i);
+            Long notificationId = (i < notificationIds.size()) ? notificationIds.get(i) : null;
+
+            NotificationResponseDto.NotificationGetResponseDto responseDto =
+                    NotificationResponseDto.NotificationGetResponseDto.of(
+                            notificationId, event.type(), recipient.contentText(), event.link());
+            notificationBroadcaster.broadcast(recipient.userId(), notificationId, responseDto);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.seasonthon.everflow.app.notification.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 알림 채널을 구독하여 현재 노드에 연결된 사용자에게 SSE로 전달한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "everflow.redis.enabled", havingValue = "true")
+public class NotificationRedisSubscriber implements MessageListener {
+
+    private final RedisMessageListenerContainer listenerContainer;
+    private final SseSender sseSender;
+    private final ObjectMapper objectMapper;
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(RedisNotificationBroadcaster.CHANNEL));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            RedisNotificationBroadcaster.DeliveryMessage delivery = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8),
+                    RedisNotificationBroadcaster.DeliveryMessage.class);
+            sseSender.sendToUser(delivery.userId(), delivery.eventId(), delivery.data());
+        } catch (IOException e) {
+            log.error("Notification message parse error - {}", e.getMessage());
+        }
+    }
+}
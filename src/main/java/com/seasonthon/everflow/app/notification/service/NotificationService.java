@@ -1,24 +1,29 @@
 package com.seasonthon.everflow.app.notification.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.seasonthon.everflow.app.global.code.status.ErrorStatus;
 import com.seasonthon.everflow.app.global.exception.GeneralException;
 import com.seasonthon.everflow.app.notification.domain.Notification;
 import com.seasonthon.everflow.app.notification.domain.NotificationType;
 import com.seasonthon.everflow.app.notification.domain.ReadStatus;
 import com.seasonthon.everflow.app.notification.dto.NotificationResponseDto;
+import com.seasonthon.everflow.app.notification.dto.NotificationRow;
+import com.seasonthon.everflow.app.notification.event.NotificationEvent;
+import com.seasonthon.everflow.app.notification.event.NotificationSavedEvent;
 import com.seasonthon.everflow.app.notification.repository.EmitterRepository;
+import com.seasonthon.everflow.app.notification.repository.EventReplayRepository;
+import com.seasonthon.everflow.app.notification.repository.NotificationJdbcRepository;
 import com.seasonthon.everflow.app.notification.repository.NotificationRepository;
 import com.seasonthon.everflow.app.user.domain.User;
-import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -29,67 +34,92 @@ public class NotificationService {
     private static final Long DEFAULT_TIMEOUT = 30L * 1000 * 60; // 30분
 
     private final NotificationRepository notificationRepository;
+    private final NotificationJdbcRepository notificationJdbcRepository;
     private final EmitterRepository emitterRepository;
-    private final ObjectMapper objectMapper = new ObjectMapper();
-
-    public SseEmitter subscribe(Long userId) {
+    private final EventReplayRepository eventReplayRepository;
+    private final NotificationSummaryCache notificationSummaryCache;
+    private final SseSender sseSender;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final int REPLAY_FALLBACK_LIMIT = 50;
+    private static final int MAX_PAGE_SIZE = 50;
+
+    /**
+     * @param lastEventId 재연결 시 클라이언트가 마지막으로 받은 이벤트 ID (없으면 null)
+     */
+    public SseEmitter subscribe(Long userId, Long lastEventId) {
         String emitterId = userId + "_" + System.currentTimeMillis();
         SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT);
-        emitterRepository.save(emitterId, emitter);
+        emitterRepository.save(userId, emitterId, emitter);
 
         emitter.onCompletion(() -> {
             log.info("SSE completed: {}", emitterId);
-            emitterRepository.deleteById(emitterId);
+            emitterRepository.deleteById(userId, emitterId);
         });
         emitter.onTimeout(() -> {
             log.info("SSE timeout: {}", emitterId);
-            emitterRepository.deleteById(emitterId);
+            emitterRepository.deleteById(userId, emitterId);
         });
         emitter.onError(e -> {
             log.info("SSE error: {} - {}", emitterId, e.toString());
-            emitterRepository.deleteById(emitterId);
+            emitterRepository.deleteById(userId, emitterId);
         });
 
-        sendToClient(emitter, emitterId, "EventStream Created. [userId=" + userId + "]");
+        sseSender.send(userId, emitterId, emitter, null, "EventStream Created. [userId=" + userId + "]");
+
+        if (lastEventId != null) {
+            replayMissedEvents(userId, emitterId, emitter, lastEventId);
+        }
         return emitter;
     }
 
-    @Transactional
+    /**
+     * 끊겨 있던 동안 놓친 이벤트만 재전송
+     * - 메모리 버퍼로 충분하면 버퍼에서, 아니면 DB에서 lastEventId 이후 알림을 조회
+     */
+    private void replayMissedEvents(Long userId, String emitterId, SseEmitter emitter, Long lastEventId) {
+        Optional<List<EventReplayRepository.ReplayEvent>> buffered = eventReplayRepository.findAfter(userId, lastEventId);
+        if (buffered.isPresent()) {
+            buffered.get().forEach(event ->
+                    sseSender.send(userId, emitterId, emitter, event.id(), event.data()));
+            return;
+        }
+
+        notificationRepository.findByUserIdAndIdGreaterThanOrderByIdAsc(
+                        userId, lastEventId, PageRequest.of(0, REPLAY_FALLBACK_LIMIT))
+                .forEach(notification -> sseSender.send(
+                        userId, emitterId, emitter, notification.getId(), mapToNotificationGetResponseDto(notification)));
+    }
+
+    /**
+     * 단일 수신자 알림 (커밋 이후 NotificationDispatcher에서 저장/전송)
+     */
     public void sendNotification(User recipient, NotificationType type, String content, String link) {
-        Notification notification = Notification.builder()
-                .user(recipient)
-                .notificationType(type)
-                .contentText(content)
-                .link(link)
-                .build();
-        notificationRepository.save(notification);
-
-        log.info("Notification saved for user {}. Content: {}", recipient.getId(), content);
-
-        Map<String, SseEmitter> emitters = emitterRepository.findAllByUserId(String.valueOf(recipient.getId()));
-        log.info("Found {} emitters for user {}", emitters.size(), recipient.getId());
-
-        emitters.forEach((emitterId, emitter) -> {
-            NotificationResponseDto.NotificationGetResponseDto responseDto = mapToNotificationGetResponseDto(notification);
-            log.info("Sending notification to emitterId: {}", emitterId);
-            sendToClient(emitter, emitterId, responseDto);
-        });
+        sendNotifications(List.of(recipient), type, content, link);
     }
 
-    private void sendToClient(SseEmitter emitter, String emitterId, Object data) {
-        try {
-            Object payload = (data instanceof String) ? data : objectMapper.writeValueAsString(data);
-            SseEmitter.SseEventBuilder event = SseEmitter.event()
-                    .id(Long.toString(System.currentTimeMillis()))
-                    .name("sse")
-                    .data(payload);
-
-            emitter.send(event);
-            log.info("Sent data to {}: {}", emitterId, payload);
-        } catch (IOException e) {
-            emitterRepository.deleteById(emitterId);
-            log.error("SSE send error {} - {}", emitterId, e.getMessage());
+    /**
+     * 동일한 내용의 알림을 여러 수신자에게 한 번에 발행
+     */
+    public void sendNotifications(List<User> recipients, NotificationType type, String content, String link) {
+        List<Long> userIds = recipients.stream().map(User::getId).toList();
+        publish(NotificationEvent.of(type, content, link, userIds));
+    }
+
+    /**
+     * 수신자별 내용이 다른 알림을 한 번에 발행
+     * - 알림 행은 호출한 트랜잭션 안에서 한 번의 batch insert로 저장한다. (요청과 함께 커밋/롤백)
+     * - SSE 전송만 커밋 이후 별도 Executor에서 처리하며, 포화 시에는 전송만 생략될 수 있다.
+     */
+    public void publish(NotificationEvent event) {
+        if (event.recipients().isEmpty()) {
+            return;
         }
+        List<Long> notificationIds = notificationJdbcRepository.saveAll(event);
+        event.recipients().forEach(recipient -> notificationSummaryCache.evict(recipient.userId()));
+        log.info("Notification saved. type={}, recipients={}", event.type(), event.recipients().size());
+
+        eventPublisher.publishEvent(new NotificationSavedEvent(event, notificationIds));
     }
 
     // DB에 데이터를 쓰는 메서드이므로 @Transactional 추가
@@ -106,6 +136,7 @@ public class NotificationService {
 
         // 3. 엔터티의 상태 변경 메서드를 호출
         notification.markAsRead();
+        notificationSummaryCache.evict(userId);
 
         return new NotificationResponseDto.ReadResponseDto("알림을 읽음 처리했습니다.");
     }
@@ -124,6 +155,7 @@ public class NotificationService {
                 ReadStatus.READ,
                 excludedActionTypes
         );
+        notificationSummaryCache.evict(userId);
 
         return new NotificationResponseDto.ReadResponseDto("모든 알림을 읽음 처리했습니다.");
     }
@@ -138,32 +170,42 @@ public class NotificationService {
                 .collect(Collectors.toList());
     }
 
-    @Transactional(readOnly = true)
     public List<NotificationResponseDto.NotificationGetResponseDto> getRecentNotifications(Long userId) {
-        List<Notification> notifications = notificationRepository.findTop3ByUserIdAndReadStatusOrderByCreatedAtDesc(userId, ReadStatus.UNREAD);
+        return notificationSummaryCache.get(userId).recent();
+    }
 
-        return notifications.stream()
-                .map(this::mapToNotificationGetResponseDto)
-                .collect(Collectors.toList());
+    public NotificationResponseDto.SummaryResponseDto getSummary(Long userId) {
+        NotificationSummaryCache.NotificationSummary summary = notificationSummaryCache.get(userId);
+        return new NotificationResponseDto.SummaryResponseDto(summary.unreadCount(), summary.recent());
     }
 
-    private NotificationResponseDto.NotificationGetResponseDto mapToNotificationGetResponseDto(Notification notification) {
-        String typeString = convertNotificationTypeToString(notification.getNotificationType());
+    @Transactional(readOnly = true)
+    public NotificationResponseDto.NotificationPageResponseDto getNotificationPage(Long userId, Long cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        PageRequest pageRequest = PageRequest.of(0, pageSize + 1);
+
+        List<NotificationRow> rows = (cursor == null)
+                ? notificationRepository.findPageByUserId(userId, ReadStatus.UNREAD, pageRequest)
+                : notificationRepository.findPageByUserIdAfterCursor(userId, ReadStatus.UNREAD, cursor, pageRequest);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<NotificationRow> page = hasNext ? rows.subList(0, pageSize) : rows;
+        Long nextCursor = hasNext ? page.get(page.size() - 1).notificationId() : null;
+
+        return new NotificationResponseDto.NotificationPageResponseDto(
+                page.stream().map(NotificationRow::toResponseDto).toList(),
+                nextCursor,
+                hasNext
+        );
+    }
 
-        return new NotificationResponseDto.NotificationGetResponseDto(
+    private NotificationResponseDto.NotificationGetResponseDto mapToNotificationGetResponseDto(Notification notification) {
+        return NotificationResponseDto.NotificationGetResponseDto.of(
                 notification.getId(),
-                typeString,
+                notification.getNotificationType(),
                 notification.getContentText(),
                 notification.getLink()
         );
     }
-
-    private String convertNotificationTypeToString(NotificationType type) {
-        return switch (type) {
-            case APPOINTMENT_ACTION, APPOINTMENT_RESPONSE -> "약속알림";
-            case FAMILY_ACTION, FAMILY_RESPONSE -> "구성원알림";
-            case ANSWER_RESPONSE -> "오늘의 질문 알림";
-            default -> "기타알림";
-        };
-    }
 }
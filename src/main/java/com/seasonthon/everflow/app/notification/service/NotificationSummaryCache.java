@@ -0,0 +1,69 @@
+package com.seasonthon.everflow.app.notification.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.seasonthon.everflow.app.notification.domain.ReadStatus;
+import com.seasonthon.everflow.app.notification.dto.NotificationResponseDto;
+import com.seasonthon.everflow.app.notification.repository.NotificationRepository;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 사용자별 알림 요약(읽지 않은 개수 + 최근 3건) 캐시
+ * - 알림 생성, 읽음 처리 시 무효화하고 다음 조회에서 DB로 다시 만든다.
+ * - 다른 노드에서의 변경은 만료 시간 안에 반영된다.
+ */
+@Component
+public class NotificationSummaryCache {
+
+    private final NotificationRepository notificationRepository;
+
+    private final Cache<Long, NotificationSummary> cache = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofMinutes(1))
+            .build();
+
+    public NotificationSummaryCache(NotificationRepository notificationRepository) {
+        this.notificationRepository = notificationRepository;
+    }
+
+    public record NotificationSummary(
+            long unreadCount,
+            List<NotificationResponseDto.NotificationGetResponseDto> recent
+    ) {
+    }
+
+    public NotificationSummary get(Long userId) {
+        return cache.get(userId, this::load);
+    }
+
+    /**
+     * 알림 생성, 읽음 처리 등으로 요약이 바뀐 경우 무효화 (트랜잭션 안이면 커밋 이후)
+     * - 캐시된 요약에 직접 더하지 않는다. (동시에 DB에서 읽어 온 요약과 겹쳐 중복 집계될 수 있음)
+     */
+    public void evict(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(userId);
+                }
+            });
+            return;
+        }
+        cache.invalidate(userId);
+    }
+
+    private NotificationSummary load(Long userId) {
+        long unreadCount = notificationRepository.countByUserIdAndReadStatus(userId, ReadStatus.UNREAD);
+        List<NotificationResponseDto.NotificationGetResponseDto> recent =
+                notificationRepository.findTop3ByUserIdAndReadStatusOrderByCreatedAtDesc(userId, ReadStatus.UNREAD).stream()
+                        .map(n -> NotificationResponseDto.NotificationGetResponseDto.of(
+                                n.getId(), n.getNotificationType(), n.getContentText(), n.getLink()))
+                        .toList();
+        return new NotificationSummary(unreadCount, recent);
+    }
+}
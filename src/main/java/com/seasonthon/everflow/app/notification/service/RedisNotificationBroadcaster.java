@@ -0,0 +1,37 @@
+package com.seasonthon.everflow.app.notification.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "everflow.redis.enabled", havingValue = "true")
+public class RedisNotificationBroadcaster implements NotificationBroadcaster {
+
+    public static final String CHANNEL = "everflow:notification";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void broadcast(Long userId, Long eventId, Object data) {
+        try {
+            String payload = (data instanceof String str) ? str : objectMapper.writeValueAsString(data);
+            String message = objectMapper.writeValueAsString(new DeliveryMessage(userId, eventId, payload));
+            redisTemplate.convertAndSend(CHANNEL, message);
+        } catch (JsonProcessingException e) {
+            log.error("Notification broadcast serialize error. userId={} - {}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 채널로 전달되는 메시지 (data는 SSE로 그대로 전송할 문자열)
+     */
+    public record DeliveryMessage(Long userId, Long eventId, String data) {}
+}
@@ -0,0 +1,130 @@
+package com.seasonthon.everflow.app.notification.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.seasonthon.everflow.app.notification.repository.EmitterRepository;
+import com.seasonthon.everflow.app.notification.repository.EventReplayRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 현재 노드에 연결된 Emitter로 SSE 이벤트를 전송한다.
+ * - 전송 실패한 Emitter는 즉시 제거(evict)하여 async context를 반납한다.
+ */
+@Component
+@Slf4j
+public class SseSender {
+
+    private final EmitterRepository emitterRepository;
+    private final EventReplayRepository eventReplayRepository;
+    private final ObjectMapper objectMapper;
+
+    private final Timer sendTimer;
+    private final Counter evictionCounter;
+
+    public SseSender(EmitterRepository emitterRepository,
+                     EventReplayRepository eventReplayRepository,
+                     ObjectMapper objectMapper,
+                     MeterRegistry meterRegistry) {
+        this.emitterRepository = emitterRepository;
+        this.eventReplayRepository = eventReplayRepository;
+        this.objectMapper = objectMapper;
+        this.sendTimer = Timer.builder("sse.send.latency")
+                .description("SSE 이벤트 1건 전송 소요 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.evictionCounter = Counter.builder("sse.emitters.evicted")
+                .description("전송 실패로 제거된 SSE Emitter 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 사용자의 모든 Emitter로 전송 (eventId가 있으면 재전송 버퍼에도 보관)
+     */
+    public void sendToUser(Long userId, Long eventId, Object data) {
+        String payload = serialize(data);
+        if (payload == null) {
+            return;
+        }
+        if (eventId != null) {
+            eventReplayRepository.append(userId, eventId, payload);
+        }
+        Map<String, SseEmitter> emitters = emitterRepository.findAllByUserId(userId);
+        emitters.forEach((emitterId, emitter) -> send(userId, emitterId, emitter, eventId, payload));
+    }
+
+    /**
+     * eventId가 null이면 id 없이 전송 (클라이언트의 Last-Event-ID를 갱신하지 않음)
+     */
+    public void send(Long userId, String emitterId, SseEmitter emitter, Long eventId, Object data) {
+        String payload = serialize(data);
+        if (payload == null) {
+            return;
+        }
+        try {
+            SseEmitter.SseEventBuilder event = SseEmitter.event().name("sse").data(payload);
+            if (eventId != null) {
+                event.id(eventId.toString());
+            }
+
+            doSend(emitter, event);
+            log.info("Sent data to {}: {}", emitterId, payload);
+        } catch (IOException | IllegalStateException e) {
+            evict(userId, emitterId, emitter);
+            log.error("SSE send error {} - {}", emitterId, e.getMessage());
+        }
+    }
+
+    /**
+     * 연결 유지용 주석 프레임 전송 (클라이언트 이벤트로는 전달되지 않음)
+     * @return 전송 성공 여부
+     */
+    public boolean sendHeartbeat(Long userId, String emitterId, SseEmitter emitter) {
+        try {
+            doSend(emitter, SseEmitter.event().comment("heartbeat"));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            evict(userId, emitterId, emitter);
+            log.debug("SSE heartbeat failed {} - {}", emitterId, e.getMessage());
+            return false;
+        }
+    }
+
+    private void doSend(SseEmitter emitter, SseEmitter.SseEventBuilder event) throws IOException {
+        long start = System.nanoTime();
+        try {
+            emitter.send(event);
+        } finally {
+            sendTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private String serialize(Object data) {
+        if (data instanceof String str) {
+            return str;
+        }
+        try {
+            return objectMapper.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            log.error("SSE payload serialize error - {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void evict(Long userId, String emitterId, SseEmitter emitter) {
+        emitterRepository.deleteById(userId, emitterId);
+        evictionCounter.increment();
+        try {
+            emitter.complete();
+        } catch (Exception ignored) {
+            // 이미 종료된 Emitter
+        }
+    }
+}
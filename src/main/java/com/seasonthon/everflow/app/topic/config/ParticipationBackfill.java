@@ -0,0 +1,36 @@
+package com.seasonthon.everflow.app.topic.config;
+
+import com.seasonthon.everflow.app.topic.repository.DailyParticipationRepository;
+import com.seasonthon.everflow.app.topic.service.ParticipationCounter;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 최근 30일 답변으로 daily_participations 집계 테이블을 채운다.
+ * - upsert(GREATEST)로 반영하므로 재시작, 동시 기동, 기동 중 들어온 답변 increment와 충돌하지 않는다.
+ * - 실패해도 애플리케이션 기동은 계속하고 다음 기동 시 다시 채운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ParticipationBackfill implements CommandLineRunner {
+
+    private final DailyParticipationRepository participationRepository;
+
+    @Override
+    public void run(String... args) {
+        LocalDate from = ParticipationCounter.windowStart(LocalDate.now());
+        try {
+            int affected = participationRepository.backfillSince(from.atStartOfDay());
+            if (affected > 0) {
+                log.info("일별 참여 집계 backfill 완료: {}건 반영 (기준: {})", affected, from);
+            }
+        } catch (DataAccessException e) {
+            log.warn("일별 참여 집계 backfill 실패 (다음 기동 시 재시도) - {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.seasonthon.everflow.app.topic.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * topic_answers.last_activity_at 도입 이전에 작성된 답변의 값을 채운다.
+ * - 기존 정렬 기준이던 GREATEST(updated_at, created_at)을 그대로 옮긴다.
+ * - 비어있는 행만 갱신하므로 재실행해도 안전하다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TopicAnswerActivityBackfill implements CommandLineRunner {
+
+    private static final String BACKFILL_SQL = """
+            UPDATE topic_answers
+               SET last_activity_at = GREATEST(COALESCE(updated_at, created_at), created_at)
+             WHERE last_activity_at IS NULL
+               AND created_at IS NOT NULL
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public void run(String... args) {
+        int updated = jdbcTemplate.update(BACKFILL_SQL);
+        if (updated > 0) {
+            log.info("답변 last_activity_at backfill 완료: {}건", updated);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.seasonthon.everflow.app.topic.controller;
 import com.seasonthon.everflow.app.global.code.dto.ApiResponse;
 import com.seasonthon.everflow.app.global.oauth.domain.CustomUserDetails;
 import com.seasonthon.everflow.app.global.oauth.service.AuthService;
+import com.seasonthon.everflow.app.global.web.ConditionalGet;
 import com.seasonthon.everflow.app.topic.domain.Topic;
 import com.seasonthon.everflow.app.topic.domain.TopicType;
 import com.seasonthon.everflow.app.topic.dto.TopicAnswerRequestDto;
@@ -18,9 +19,11 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -71,14 +74,27 @@ public class TopicController {
         return ApiResponse.onSuccess(topicService.getFamilyAnsweredTopics(familyId));
     }
 
+    @Operation(summary = "가족이 답변한 토픽 페이지 조회", description = "가족이 답변한 토픽을 최신순 커서 기반으로 조회합니다. 다음 페이지는 응답의 nextCursor를 cursor로 전달합니다.")
+    @GetMapping("/family/answered/page")
+    public ApiResponse<TopicResponseDto.FamilyAnsweredPage> getFamilyAnsweredTopicPage(
+            @AuthenticationPrincipal CustomUserDetails me,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        Long familyId = authService.getFamilyId(me);
+        return ApiResponse.onSuccess(topicService.getFamilyAnsweredTopicPage(familyId, cursor, size));
+    }
+
     @Operation(summary = "특정 토픽의 우리 가족 답변", description = "해당 토픽에 대해, 로그인 사용자의 가족 구성원 답변(본인 포함)만 조회합니다.")
     @GetMapping("/{topicId}/answers/family")
-    public ApiResponse<List<TopicAnswerResponseDto.Info>> getFamilyAnswersByTopic(
+    public ResponseEntity<ApiResponse<List<TopicAnswerResponseDto.Info>>> getFamilyAnswersByTopic(
             @AuthenticationPrincipal CustomUserDetails me,
-            @PathVariable Long topicId
+            @PathVariable Long topicId,
+            WebRequest request
     ) {
         Long familyId = authService.getFamilyId(me);
-        return ApiResponse.onSuccess(topicService.getFamilyAnswersByTopic(topicId, familyId));
+        return ConditionalGet.respond(request, topicService.getFamilyAnswersByTopicVersion(topicId, familyId),
+                () -> topicService.getFamilyAnswersByTopic(topicId, familyId));
     }
 
 
@@ -0,0 +1,41 @@
+package com.seasonthon.everflow.app.topic.domain;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 가족 구성원별 일 단위 토픽 답변 수 (친밀도 계산용 집계 테이블)
+ * - 답변 작성 시 (family_id, user_id, activity_date) 행을 upsert로 1 증가시킨다.
+ */
+@Entity
+@Table(
+        name = "daily_participations",
+        uniqueConstraints = @UniqueConstraint(
+                name = "UK_participation_family_user_date",
+                columnNames = {"family_id", "user_id", "activity_date"}
+        ),
+        indexes = @Index(name = "idx_participation_family_date", columnList = "family_id, activity_date")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DailyParticipation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "family_id", nullable = false)
+    private Long familyId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "activity_date", nullable = false)
+    private LocalDate activityDate;
+
+    @Column(name = "answers", nullable = false)
+    private int answers;
+}
@@ -5,10 +5,20 @@ import com.seasonthon.everflow.app.user.domain.User;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDateTime;
+
 @Entity
 @Table(
         name = "topic_answers",
-        uniqueConstraints = @UniqueConstraint(name = "UK_topic_user", columnNames = {"topic_id", "user_id"})
+        uniqueConstraints = @UniqueConstraint(name = "UK_topic_user", columnNames = {"topic_id", "user_id"}),
+        indexes = {
+                @Index(name = "idx_topic_answers_topic_family_activity", columnList = "topic_id, family_id, last_activity_at"),
+                @Index(name = "idx_topic_answers_topic_activity", columnList = "topic_id, last_activity_at"),
+                // 가족 단위 집계 (답변한 토픽 수, 구성원별 답변 수) - 인덱스만으로 처리
+                @Index(name = "idx_topic_answers_family_topic_user", columnList = "family_id, topic_id, user_id"),
+                // 사용자 단위 조회/삭제 (답변 수, 활성 토픽 답변 수, 탈퇴 시 삭제)
+                @Index(name = "idx_topic_answers_user_topic", columnList = "user_id, topic_id")
+        }
 )
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -32,15 +42,21 @@ public class TopicAnswer extends BaseTimeEntity {
     @Column(name = "family_id", nullable = false)
     private Long familyId;
 
+    /* 작성/수정 중 마지막 시각 - GREATEST(updatedAt, createdAt) 정렬 대신 인덱스로 정렬하기 위해 저장 */
+    @Column(name = "last_activity_at")
+    private LocalDateTime lastActivityAt;
+
     @Builder
     private TopicAnswer(Topic topic, User user, String content, Long familyId) {
         this.topic = topic;
         this.user = user;
         this.content = content;
         this.familyId = familyId;
+        this.lastActivityAt = LocalDateTime.now();
     }
 
     public void updateContent(String content) {
         this.content = content;
+        this.lastActivityAt = LocalDateTime.now();
     }
 }
\ No newline at end of file
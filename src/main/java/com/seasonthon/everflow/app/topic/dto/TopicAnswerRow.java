@@ -0,0 +1,21 @@
+package com.seasonthon.everflow.app.topic.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 가족 답변 조회용 JPQL 프로젝션 (TopicAnswer/User 엔티티 로딩 없이 필요한 컬럼만 조회)
+ */
+public record TopicAnswerRow(
+        Long answerId,
+        Long topicId,
+        Long userId,
+        String nickname,
+        String profileUrl,
+        String content,
+        LocalDateTime respondedAt
+) {
+
+    public TopicAnswerResponseDto.Info toInfo() {
+        return new TopicAnswerResponseDto.Info(answerId, topicId, userId, nickname, profileUrl, content, respondedAt);
+    }
+}
@@ -29,4 +29,6 @@ public class TopicResponseDto {
             return new FamilyAnswered(topics, topics.size());
         }
     }
+
+    public record FamilyAnsweredPage(List<Simple> topics, long totalCount, Long nextCursor, boolean hasNext) {}
 }
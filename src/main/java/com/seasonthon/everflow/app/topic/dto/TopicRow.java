@@ -0,0 +1,18 @@
+package com.seasonthon.everflow.app.topic.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 토픽 목록 조회용 JPQL 프로젝션
+ */
+public record TopicRow(
+        Long topicId,
+        String question,
+        LocalDateTime activeFrom,
+        LocalDateTime activeUntil
+) {
+
+    public TopicResponseDto.Simple toSimple() {
+        return new TopicResponseDto.Simple(topicId, question, activeFrom, activeUntil);
+    }
+}
@@ -0,0 +1,8 @@
+package com.seasonthon.everflow.app.topic.event;
+
+/**
+ * 현재 활성 토픽이 바뀌었을 수 있음을 알리는 이벤트 (토픽 생성/수정, 활성화, 만료)
+ * - 커밋 이후 ActiveTopicHolder가 스냅샷을 비우고, Redis 사용 시 다른 노드에도 전파한다.
+ */
+public record ActiveTopicChangedEvent() {
+}
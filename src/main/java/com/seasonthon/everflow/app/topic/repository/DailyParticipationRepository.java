@@ -0,0 +1,51 @@
+package com.seasonthon.everflow.app.topic.repository;
+
+import com.seasonthon.everflow.app.topic.domain.DailyParticipation;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface DailyParticipationRepository extends JpaRepository<DailyParticipation, Long> {
+
+    @Modifying
+    @Query(value = """
+      INSERT INTO daily_participations (family_id, user_id, activity_date, answers)
+      VALUES (:familyId, :userId, :activityDate, 1)
+      ON DUPLICATE KEY UPDATE answers = answers + 1
+    """, nativeQuery = true)
+    void increment(@Param("familyId") Long familyId,
+                   @Param("userId") Long userId,
+                   @Param("activityDate") LocalDate activityDate);
+
+    @Query("""
+      select p.userId, sum(p.answers)
+      from DailyParticipation p
+      where p.familyId = :familyId and p.activityDate >= :from
+      group by p.userId
+    """)
+    List<Object[]> sumSinceByFamilyGroup(@Param("familyId") Long familyId, @Param("from") LocalDate from);
+
+    // 최근 답변으로 집계 테이블을 채움 (이미 있는 행은 더 큰 값만 반영하므로 재실행/동시 increment와 충돌하지 않음)
+    @Transactional
+    @Modifying
+    @Query(value = """
+      INSERT INTO daily_participations (family_id, user_id, activity_date, answers)
+      SELECT ta.family_id, ta.user_id, DATE(ta.created_at), COUNT(*)
+      FROM topic_answers ta
+      WHERE ta.created_at >= :from
+      GROUP BY ta.family_id, ta.user_id, DATE(ta.created_at)
+      ON DUPLICATE KEY UPDATE answers = GREATEST(answers, VALUES(answers))
+    """, nativeQuery = true)
+    int backfillSince(@Param("from") LocalDateTime from);
+
+    @Modifying
+    @Query("DELETE FROM DailyParticipation p WHERE p.activityDate < :before")
+    int deleteBefore(@Param("before") LocalDate before);
+
+    void deleteAllByUserId(Long userId);
+}
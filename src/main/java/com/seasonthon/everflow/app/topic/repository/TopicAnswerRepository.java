@@ -2,11 +2,13 @@ package com.seasonthon.everflow.app.topic.repository;
 
 import com.seasonthon.everflow.app.topic.domain.TopicAnswer;
 import com.seasonthon.everflow.app.topic.domain.TopicStatus;
+import com.seasonthon.everflow.app.topic.dto.TopicAnswerRow;
+import com.seasonthon.everflow.app.topic.dto.TopicRow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,35 +16,53 @@ public interface TopicAnswerRepository extends JpaRepository<TopicAnswer, Long>
 
     Optional<TopicAnswer> findByTopicIdAndUserId(Long topicId, Long userId);
 
-    @Query("select ta from TopicAnswer ta where ta.topic.id = :topicId order by GREATEST(ta.updatedAt, ta.createdAt) desc")
+    @Query("select ta from TopicAnswer ta where ta.topic.id = :topicId order by ta.lastActivityAt desc")
     List<TopicAnswer> findAllByTopicIdOrderByMostRecent(@Param("topicId") Long topicId);
 
+    // 특정 토픽의 가족 답변 (필요한 컬럼만 조회)
     @Query("""
-      select ta from TopicAnswer ta
-      join fetch ta.user u
+      select new com.seasonthon.everflow.app.topic.dto.TopicAnswerRow(
+          ta.id, ta.topic.id, u.id, u.nickname, u.profileUrl, ta.content, ta.lastActivityAt)
+      from TopicAnswer ta join ta.user u
       where ta.topic.id = :topicId
         and ta.familyId = :familyId
-      order by GREATEST(ta.updatedAt, ta.createdAt) desc
+      order by ta.lastActivityAt desc
     """)
-    List<TopicAnswer> findFamilyAnswersByTopic(@Param("topicId") Long topicId, @Param("familyId") Long familyId);
+    List<TopicAnswerRow> findFamilyAnswerRows(@Param("topicId") Long topicId, @Param("familyId") Long familyId);
 
+    // 특정 토픽의 가족 답변 최종 수정 시각/개수 (조건부 GET 버전 계산용)
     @Query("""
-      select ta from TopicAnswer ta
-      join fetch ta.user u
-      where ta.topic.id = :activeTopicId
+      select max(ta.lastActivityAt), count(ta)
+      from TopicAnswer ta
+      where ta.topic.id = :topicId
         and ta.familyId = :familyId
-      order by GREATEST(ta.updatedAt, ta.createdAt) desc
     """)
-    List<TopicAnswer> findFamilyAnswers(@Param("activeTopicId") Long activeTopicId, @Param("familyId") Long familyId);
+    List<Object[]> findFamilyAnswerVersion(@Param("topicId") Long topicId, @Param("familyId") Long familyId);
 
+    // 가족이 답변한 토픽 목록 (첫 페이지, 최신 토픽 순)
     @Query("""
-      select ta from TopicAnswer ta
-      join fetch ta.user u
-      join fetch ta.topic t
-      where ta.familyId = :familyId
-      order by t.activeFrom desc, GREATEST(ta.updatedAt, ta.createdAt) desc
+      select new com.seasonthon.everflow.app.topic.dto.TopicRow(t.id, t.question, t.activeFrom, t.activeUntil)
+      from Topic t
+      where exists (select 1 from TopicAnswer ta where ta.topic = t and ta.familyId = :familyId)
+      order by t.activeFrom desc, t.id desc
+    """)
+    List<TopicRow> findAnsweredTopics(@Param("familyId") Long familyId, Pageable pageable);
+
+    // 가족이 답변한 토픽 목록 (cursor 토픽 이후, (active_from, id) 기준 keyset)
+    @Query("""
+      select new com.seasonthon.everflow.app.topic.dto.TopicRow(t.id, t.question, t.activeFrom, t.activeUntil)
+      from Topic t
+      where exists (select 1 from TopicAnswer ta where ta.topic = t and ta.familyId = :familyId)
+        and (t.activeFrom < (select c.activeFrom from Topic c where c.id = :cursor)
+          or (t.activeFrom = (select c.activeFrom from Topic c where c.id = :cursor) and t.id < :cursor))
+      order by t.activeFrom desc, t.id desc
     """)
-    List<TopicAnswer> findAllByFamilyId(@Param("familyId") Long familyId);
+    List<TopicRow> findAnsweredTopicsAfterCursor(@Param("familyId") Long familyId,
+                                                @Param("cursor") Long cursor,
+                                                Pageable pageable);
+
+    @Query("select count(distinct ta.topic.id) from TopicAnswer ta where ta.familyId = :familyId")
+    long countAnsweredTopics(@Param("familyId") Long familyId);
 
     long countByUserId(Long userId);
 
@@ -69,19 +89,5 @@ public interface TopicAnswerRepository extends JpaRepository<TopicAnswer, Long>
     """)
     List<Object[]> countActiveByFamilyGroup(@Param("familyId") Long familyId, @Param("status") TopicStatus status);
 
-    @Query("""
-      select count(ta) from TopicAnswer ta
-      where ta.user.id = :userId and ta.createdAt >= :from
-    """)
-    long countSinceByUser(@Param("userId") Long userId, @Param("from") LocalDateTime from);
-
-    @Query("""
-      select u.id, count(ta)
-      from TopicAnswer ta join ta.user u
-      where ta.familyId = :familyId and ta.createdAt >= :from
-      group by u.id
-    """)
-    List<Object[]> countSinceByFamilyGroup(@Param("familyId") Long familyId, @Param("from") LocalDateTime from);
-
     void deleteAllByUserId(Long userId);
 }
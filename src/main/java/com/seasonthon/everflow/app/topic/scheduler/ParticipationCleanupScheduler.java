@@ -0,0 +1,29 @@
+package com.seasonthon.everflow.app.topic.scheduler;
+
+import com.seasonthon.everflow.app.topic.repository.DailyParticipationRepository;
+import com.seasonthon.everflow.app.topic.service.ParticipationCounter;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ParticipationCleanupScheduler {
+
+    private final DailyParticipationRepository participationRepository;
+
+    // 친밀도 윈도우(30일)를 벗어난 일별 집계 행 삭제
+    @Transactional
+    @Scheduled(cron = "0 10 0 * * *", zone = "Asia/Seoul")
+    public void deleteOutdatedBuckets() {
+        LocalDate before = ParticipationCounter.windowStart(LocalDate.now());
+        int deleted = participationRepository.deleteBefore(before);
+        if (deleted > 0) {
+            log.info("만료된 일별 참여 집계 삭제: {}건 (기준: {})", deleted, before);
+        }
+    }
+}
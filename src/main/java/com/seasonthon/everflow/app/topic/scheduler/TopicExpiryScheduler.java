@@ -1,8 +1,10 @@
 package com.seasonthon.everflow.app.topic.scheduler;
 
+import com.seasonthon.everflow.app.topic.event.ActiveTopicChangedEvent;
 import com.seasonthon.everflow.app.topic.repository.TopicRepository;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
@@ -15,6 +17,7 @@ import java.time.LocalDateTime;
 public class TopicExpiryScheduler {
 
     private final TopicRepository topicRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     @Scheduled(cron = "0 0 0 * * *", zone = "Asia/Seoul")
@@ -23,6 +26,7 @@ public class TopicExpiryScheduler {
         int updated = topicRepository.bulkExpire(now);
         if (updated > 0) {
             log.info("만료 처리된 토픽: {}건 (기준: {})", updated, now);
+            eventPublisher.publishEvent(new ActiveTopicChangedEvent());
         } else {
             log.debug("만료 처리할 토픽 없음 (기준: {})", now);
         }
@@ -1,8 +1,10 @@
 package com.seasonthon.everflow.app.topic.scheduler;
 
 import com.seasonthon.everflow.app.topic.domain.TopicStatus;
+import com.seasonthon.everflow.app.topic.event.ActiveTopicChangedEvent;
 import com.seasonthon.everflow.app.topic.repository.TopicRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,6 +16,7 @@ import java.time.LocalDateTime;
 public class TopicScheduler {
 
     private final TopicRepository topicRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     @Scheduled(cron = "0 2 0 * * *", zone = "Asia/Seoul")
@@ -31,6 +34,9 @@ public class TopicScheduler {
         }
 
         topicRepository.findFirstByStatusOrderByIdAsc(TopicStatus.DRAFT)
-                .ifPresent(next -> next.activateAt(now, 3));
+                .ifPresent(next -> {
+                    next.activateAt(now, 3);
+                    eventPublisher.publishEvent(new ActiveTopicChangedEvent());
+                });
     }
 }
@@ -0,0 +1,77 @@
+package com.seasonthon.everflow.app.topic.service;
+
+import com.seasonthon.everflow.app.topic.domain.TopicStatus;
+import com.seasonthon.everflow.app.topic.dto.TopicResponseDto;
+import com.seasonthon.everflow.app.topic.event.ActiveTopicChangedEvent;
+import com.seasonthon.everflow.app.topic.repository.TopicRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 현재 활성 토픽 스냅샷
+ * - activeUntil이 지나면 자동으로 다시 조회한다. (시작 시각이 미래인 토픽 반영을 위해 최대 10분마다 재조회)
+ * - 토픽 변경/스케줄러 실행 시 ActiveTopicChangedEvent로 무효화된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ActiveTopicHolder {
+
+    private static final Duration MAX_STALENESS = Duration.ofMinutes(10);
+    // 활성 토픽이 없을 때 재조회 간격
+    private static final Duration EMPTY_STALENESS = Duration.ofMinutes(1);
+
+    private final TopicRepository topicRepository;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    private record Snapshot(TopicResponseDto.Simple topic, LocalDateTime validUntil) {
+
+        boolean isValidAt(LocalDateTime now) {
+            return now.isBefore(validUntil);
+        }
+    }
+
+    public Optional<TopicResponseDto.Simple> get() {
+        LocalDateTime now = LocalDateTime.now();
+        Snapshot current = snapshot.get();
+        if (current != null && current.isValidAt(now)) {
+            return Optional.ofNullable(current.topic());
+        }
+        return Optional.ofNullable(reload(now).topic());
+    }
+
+    public void invalidate() {
+        snapshot.set(null);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onActiveTopicChanged(ActiveTopicChangedEvent event) {
+        invalidate();
+    }
+
+    // 동시에 만료된 경우 한 스레드만 조회
+    private synchronized Snapshot reload(LocalDateTime now) {
+        Snapshot current = snapshot.get();
+        if (current != null && current.isValidAt(now)) {
+            return current;
+        }
+        Snapshot loaded = topicRepository
+                .findFirstByStatusAndActiveFromLessThanEqualAndActiveUntilGreaterThanOrderByActiveFromDesc(
+                        TopicStatus.ACTIVE, now, now
+                )
+                .map(t -> {
+                    LocalDateTime cap = now.plus(MAX_STALENESS);
+                    LocalDateTime until = t.getActiveUntil().isBefore(cap) ? t.getActiveUntil() : cap;
+                    return new Snapshot(TopicResponseDto.Simple.of(t), until);
+                })
+                .orElseGet(() -> new Snapshot(null, now.plus(EMPTY_STALENESS)));
+        snapshot.set(loaded);
+        return loaded;
+    }
+}
@@ -0,0 +1,44 @@
+package com.seasonthon.everflow.app.topic.service;
+
+import com.seasonthon.everflow.app.topic.event.ActiveTopicChangedEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 활성 토픽 무효화를 다른 노드에 전파한다. (everflow.redis.enabled=true 일 때만)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "everflow.redis.enabled", havingValue = "true")
+public class ActiveTopicRedisSync implements MessageListener {
+
+    private static final String CHANNEL = "everflow:active-topic";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ActiveTopicHolder activeTopicHolder;
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onActiveTopicChanged(ActiveTopicChangedEvent event) {
+        redisTemplate.convertAndSend(CHANNEL, "invalidate");
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        activeTopicHolder.invalidate();
+    }
+}
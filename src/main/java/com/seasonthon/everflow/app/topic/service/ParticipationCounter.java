@@ -0,0 +1,85 @@
+package com.seasonthon.everflow.app.topic.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.seasonthon.everflow.app.topic.repository.DailyParticipationRepository;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 최근 30일(오늘 포함) 가족 구성원별 답변 수
+ * - daily_participations 일 단위 행을 합산하며, 가족별 결과를 캐시한다.
+ * - 답변 작성 시 해당 가족의 캐시를 커밋 이후 무효화한다.
+ */
+@Component
+public class ParticipationCounter {
+
+    public static final int WINDOW_DAYS = 30;
+
+    private final DailyParticipationRepository participationRepository;
+
+    // 날짜가 바뀌면 윈도우가 달라지므로 키에 기준일을 포함
+    private final Cache<WindowKey, Map<Long, Long>> cache = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .build();
+
+    public ParticipationCounter(DailyParticipationRepository participationRepository) {
+        this.participationRepository = participationRepository;
+    }
+
+    private record WindowKey(Long familyId, LocalDate today) {}
+
+    /**
+     * 답변 1건 반영 (호출한 트랜잭션 안에서 upsert)
+     */
+    public void increment(Long familyId, Long userId) {
+        participationRepository.increment(familyId, userId, LocalDate.now());
+        evict(familyId);
+    }
+
+    /**
+     * userId -> 최근 30일 답변 수 (답변이 없는 구성원은 포함되지 않음)
+     */
+    public Map<Long, Long> countsByMember(Long familyId) {
+        LocalDate today = LocalDate.now();
+        return cache.get(new WindowKey(familyId, today), key -> load(key.familyId(), today));
+    }
+
+    public void evict(Long familyId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(familyId);
+                }
+            });
+            return;
+        }
+        invalidate(familyId);
+    }
+
+    private void invalidate(Long familyId) {
+        cache.asMap().keySet().removeIf(key -> key.familyId().equals(familyId));
+    }
+
+    private Map<Long, Long> load(Long familyId, LocalDate today) {
+        List<Object[]> rows = participationRepository.sumSinceByFamilyGroup(familyId, windowStart(today));
+        Map<Long, Long> counts = new HashMap<>();
+        for (Object[] row : rows) {
+            counts.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+        return Collections.unmodifiableMap(counts);
+    }
+
+    public static LocalDate windowStart(LocalDate today) {
+        return today.minusDays(WINDOW_DAYS - 1);
+    }
+}
@@ -1,39 +1,48 @@
 package com.seasonthon.everflow.app.topic.service;
 
+import com.seasonthon.everflow.app.family.service.FamilyRosterCache;
 import com.seasonthon.everflow.app.gemini.service.GeminiService;
 import com.seasonthon.everflow.app.global.code.status.ErrorStatus;
 import com.seasonthon.everflow.app.global.exception.GeneralException;
 import com.seasonthon.everflow.app.notification.domain.NotificationType;
+import com.seasonthon.everflow.app.notification.event.NotificationEvent;
 import com.seasonthon.everflow.app.notification.service.NotificationService;
 import com.seasonthon.everflow.app.topic.domain.Topic;
 import com.seasonthon.everflow.app.topic.domain.TopicAnswer;
 import com.seasonthon.everflow.app.topic.domain.TopicStatus;
 import com.seasonthon.everflow.app.topic.domain.TopicType;
 import com.seasonthon.everflow.app.topic.dto.*;
+import com.seasonthon.everflow.app.topic.event.ActiveTopicChangedEvent;
 import com.seasonthon.everflow.app.topic.repository.TopicAnswerRepository;
 import com.seasonthon.everflow.app.topic.repository.TopicRepository;
 import com.seasonthon.everflow.app.user.domain.User;
 import com.seasonthon.everflow.app.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class TopicService {
 
+    private static final int MAX_PAGE_SIZE = 50;
+
     private final TopicRepository topicRepository;
     private final TopicAnswerRepository answerRepository;
     private final UserRepository userRepository;
     private final NotificationService notificationService;
     private final GeminiService geminiService;
+    private final FamilyRosterCache familyRosterCache;
+    private final ParticipationCounter participationCounter;
+    private final ActiveTopicHolder activeTopicHolder;
+    private final ApplicationEventPublisher eventPublisher;
 
     private boolean isActive(Topic t) {
         LocalDateTime now = LocalDateTime.now();
@@ -57,7 +66,9 @@ public class TopicService {
                 .build();
 
         topic.activate();
-        return TopicResponseDto.Simple.of(topicRepository.save(topic));
+        Topic saved = topicRepository.save(topic);
+        eventPublisher.publishEvent(new ActiveTopicChangedEvent());
+        return TopicResponseDto.Simple.of(saved);
     }
 
     @Transactional
@@ -65,21 +76,13 @@ public class TopicService {
         Topic t = topicRepository.findById(topicId)
                 .orElseThrow(() -> new GeneralException(ErrorStatus.TOPIC_NOT_FOUND));
         t.updateQuestion(req.question());
+        eventPublisher.publishEvent(new ActiveTopicChangedEvent());
         return TopicResponseDto.Simple.of(t);
     }
 
     public TopicResponseDto.Simple getCurrentActiveTopic() {
-        LocalDateTime now = LocalDateTime.now();
-
-        Topic t = topicRepository
-                .findFirstByStatusAndActiveFromLessThanEqualAndActiveUntilGreaterThanOrderByActiveFromDesc(
-                        TopicStatus.ACTIVE, now, now
-                )
+        return activeTopicHolder.get()
                 .orElseThrow(() -> new GeneralException(ErrorStatus.TOPIC_NOT_FOUND));
-
-        t.refreshRemainingDays();
-
-        return TopicResponseDto.Simple.of(t);
     }
 
     @Transactional
@@ -102,21 +105,16 @@ public class TopicService {
                 .build();
 
         if (user.getFamily() != null) {
-            List<User> familyMembers = userRepository.findAllByFamilyId(user.getFamily().getId());
+            List<Long> recipientIds = familyRosterCache.get(user.getFamily().getId()).memberIdsExcept(userId);
             String link = "/api/topics/" + topicId + "/answers/family";
             String contentText = String.format("%s님이 세대토픽에 답변했어요.", user.getNickname());
 
-            familyMembers.stream()
-                    .filter(member -> !member.getId().equals(userId))
-                    .forEach(recipient -> notificationService.sendNotification(
-                            recipient,
-                            NotificationType.ANSWER_RESPONSE,
-                            contentText,
-                            link
-                    ));
+            notificationService.publish(NotificationEvent.of(NotificationType.ANSWER_RESPONSE, contentText, link, recipientIds));
         }
 
-        return TopicAnswerResponseDto.Info.of(answerRepository.save(a));
+        TopicAnswer saved = answerRepository.save(a);
+        participationCounter.increment(saved.getFamilyId(), userId);
+        return TopicAnswerResponseDto.Info.of(saved);
     }
 
     @Transactional
@@ -141,41 +139,57 @@ public class TopicService {
     }
 
     public List<TopicAnswerResponseDto.Info> getFamilyAnswers(Long familyId) {
-        Topic current = topicRepository.findFirstByStatusAndActiveFromLessThanEqualAndActiveUntilGreaterThanOrderByActiveFromDesc(
-                TopicStatus.ACTIVE, LocalDateTime.now(), LocalDateTime.now()
-        ).orElseThrow(() -> new GeneralException(ErrorStatus.TOPIC_NOT_FOUND));
+        TopicResponseDto.Simple current = getCurrentActiveTopic();
 
-        return answerRepository.findFamilyAnswers(current.getId(), familyId)
-                .stream()
-                .map(TopicAnswerResponseDto.Info::of)
-                .toList();
+        return getFamilyAnswersByTopic(current.id(), familyId);
     }
 
     public List<TopicAnswerResponseDto.Info> getFamilyAnswersByTopic(Long topicId, Long familyId) {
-        return answerRepository.findFamilyAnswersByTopic(topicId, familyId)
+        return answerRepository.findFamilyAnswerRows(topicId, familyId)
                 .stream()
-                .map(TopicAnswerResponseDto.Info::of)
+                .map(TopicAnswerRow::toInfo)
                 .toList();
     }
 
-    public TopicResponseDto.FamilyAnswered getFamilyAnsweredTopics(Long familyId) {
-        List<TopicAnswer> raws = answerRepository.findAllByFamilyId(familyId);
-
-        Map<Topic, List<TopicAnswer>> grouped = raws.stream()
-                .collect(Collectors.groupingBy(
-                        TopicAnswer::getTopic,
-                        LinkedHashMap::new,
-                        Collectors.toList()
-                ));
+    /**
+     * 특정 토픽의 가족 답변 응답 버전 키 (답변 최종 수정 시각/개수 + 작성자 프로필 반영을 위한 가족 구성원 버전)
+     */
+    public String getFamilyAnswersByTopicVersion(Long topicId, Long familyId) {
+        List<Object[]> rows = answerRepository.findFamilyAnswerVersion(topicId, familyId);
+        Object[] row = rows.isEmpty() ? new Object[]{null, 0L} : rows.get(0);
+        return topicId + ":" + familyId + ":" + row[0] + ":" + row[1] + ":" + familyRosterCache.get(familyId).version();
+    }
 
-        List<TopicResponseDto.Simple> topics = grouped.keySet()
+    public TopicResponseDto.FamilyAnswered getFamilyAnsweredTopics(Long familyId) {
+        List<TopicResponseDto.Simple> topics = answerRepository.findAnsweredTopics(familyId, Pageable.unpaged())
                 .stream()
-                .map(TopicResponseDto.Simple::of)
+                .map(TopicRow::toSimple)
                 .toList();
 
         return TopicResponseDto.FamilyAnswered.of(topics);
     }
 
+    public TopicResponseDto.FamilyAnsweredPage getFamilyAnsweredTopicPage(Long familyId, Long cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        PageRequest pageRequest = PageRequest.of(0, pageSize + 1);
+
+        List<TopicRow> rows = (cursor == null)
+                ? answerRepository.findAnsweredTopics(familyId, pageRequest)
+                : answerRepository.findAnsweredTopicsAfterCursor(familyId, cursor, pageRequest);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<TopicRow> page = hasNext ? rows.subList(0, pageSize) : rows;
+        Long nextCursor = hasNext ? page.get(page.size() - 1).topicId() : null;
+
+        return new TopicResponseDto.FamilyAnsweredPage(
+                page.stream().map(TopicRow::toSimple).toList(),
+                answerRepository.countAnsweredTopics(familyId),
+                nextCursor,
+                hasNext
+        );
+    }
+
     @Transactional
     public TopicResponseDto.Simple createDailyTopicFromGemini(TopicType type, List<String> recentQuestions) {
 
@@ -191,6 +205,8 @@ public class TopicService {
                 .type(type)
                 .build();
 
-        return TopicResponseDto.Simple.of(topicRepository.save(topic));
+        Topic saved = topicRepository.save(topic);
+        eventPublisher.publishEvent(new ActiveTopicChangedEvent());
+        return TopicResponseDto.Simple.of(saved);
     }
 }
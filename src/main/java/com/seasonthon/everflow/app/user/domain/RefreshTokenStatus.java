@@ -0,0 +1,7 @@
+package com.seasonthon.everflow.app.user.domain;
+
+public enum RefreshTokenStatus {
+    ACTIVE,   // 사용 가능
+    ROTATED,  // 재발급에 사용되어 새 토큰으로 교체됨
+    REVOKED   // 재사용 감지 등으로 폐기됨
+}
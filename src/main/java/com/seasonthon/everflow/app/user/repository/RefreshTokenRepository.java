@@ -0,0 +1,35 @@
+package com.seasonthon.everflow.app.user.repository;
+
+import com.seasonthon.everflow.app.user.domain.RefreshToken;
+import com.seasonthon.everflow.app.user.domain.RefreshTokenStatus;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    /**
+     * ACTIVE 상태일 때만 상태를 변경합니다. (동시 재발급 시 한 요청만 성공)
+     * @return 변경된 행 수 (0이면 이미 사용된 토큰)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE RefreshToken r SET r.status = :status " +
+            "WHERE r.id = :id AND r.status = com.seasonthon.everflow.app.user.domain.RefreshTokenStatus.ACTIVE")
+    int updateStatusIfActive(@Param("id") Long id, @Param("status") RefreshTokenStatus status);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE RefreshToken r SET r.status = com.seasonthon.everflow.app.user.domain.RefreshTokenStatus.REVOKED " +
+            "WHERE r.familyId = :familyId")
+    int revokeFamily(@Param("familyId") String familyId);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+
+    void deleteAllByUserId(Long userId);
+}
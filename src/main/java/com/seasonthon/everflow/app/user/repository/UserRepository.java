@@ -25,6 +25,15 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     List<User> findAllByFamilyId(Long familyId);
 
+    // 본인을 제외하고 가장 먼저 가입한 가족 구성원 (가족장 위임용)
+    Optional<User> findFirstByFamilyIdAndIdNotOrderByCreatedAtAscIdAsc(Long familyId, Long userId);
+
+    // 엔티티 로딩 없이 소속 가족 ID만 조회 (가족이 없으면 empty)
+    @org.springframework.data.jpa.repository.Query(
+            "select u.family.id from User u where u.id = :userId"
+    )
+    Optional<Long> findFamilyIdById(@org.springframework.data.repository.query.Param("userId") Long userId);
+
 
     @org.springframework.data.jpa.repository.Query(
             "select u.shelfColor from User u where u.family.id = :familyId and u.shelfColor is not null"
@@ -0,0 +1,27 @@
+package com.seasonthon.everflow.app.user.scheduler;
+
+import com.seasonthon.everflow.app.user.repository.RefreshTokenRepository;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenCleanupScheduler {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    @Transactional
+    @Scheduled(cron = "0 30 4 * * *", zone = "Asia/Seoul")
+    public void deleteExpiredTokens() {
+        LocalDateTime now = LocalDateTime.now();
+        int deleted = refreshTokenRepository.deleteExpired(now);
+        if (deleted > 0) {
+            log.info("만료된 Refresh Token 삭제: {}건 (기준: {})", deleted, now);
+        }
+    }
+}
@@ -4,18 +4,26 @@ import com.seasonthon.everflow.app.appointment.repository.AppointmentParticipant
 import com.seasonthon.everflow.app.appointment.repository.AppointmentRepository;
 import com.seasonthon.everflow.app.bookshelf.repository.BookshelfAnswerRepository;
 import com.seasonthon.everflow.app.bookshelf.repository.BookshelfQuestionRepository;
+import com.seasonthon.everflow.app.bookshelf.service.BookshelfQuestionCatalog;
+import com.seasonthon.everflow.app.family.domain.Family;
+import com.seasonthon.everflow.app.family.event.FamilyRosterChangedEvent;
 import com.seasonthon.everflow.app.family.repository.FamilyJoinRequestRepository;
 import com.seasonthon.everflow.app.global.code.dto.UserInfoResponseDto;
 import com.seasonthon.everflow.app.global.code.status.ErrorStatus;
 import com.seasonthon.everflow.app.global.exception.GeneralException;
 import com.seasonthon.everflow.app.global.oauth.domain.CustomUserDetails;
+import com.seasonthon.everflow.app.global.security.UserClaimsRegistry;
 import com.seasonthon.everflow.app.memo.repository.MemoRepository;
 import com.seasonthon.everflow.app.notification.repository.EmitterRepository;
+import com.seasonthon.everflow.app.notification.repository.EventReplayRepository;
 import com.seasonthon.everflow.app.notification.repository.NotificationRepository;
+import com.seasonthon.everflow.app.topic.repository.DailyParticipationRepository;
 import com.seasonthon.everflow.app.topic.repository.TopicAnswerRepository;
 import com.seasonthon.everflow.app.user.domain.User;
+import com.seasonthon.everflow.app.user.repository.RefreshTokenRepository;
 import com.seasonthon.everflow.app.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,13 +32,19 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserDeleteService {
     private final UserRepository userRepository;
     private final TopicAnswerRepository topicAnswerRepository;
+    private final DailyParticipationRepository dailyParticipationRepository;
     private final NotificationRepository notificationRepository;
     private final BookshelfAnswerRepository bookshelfAnswerRepository;
     private final BookshelfQuestionRepository bookshelfQuestionRepository;
+    private final BookshelfQuestionCatalog bookshelfQuestionCatalog;
     private final AppointmentParticipantRepository appointmentParticipantRepository;
     private final FamilyJoinRequestRepository familyJoinRequestRepository;
     private final EmitterRepository emitterRepository;
+    private final EventReplayRepository eventReplayRepository;
+    private final UserClaimsRegistry userClaimsRegistry;
+    private final RefreshTokenRepository refreshTokenRepository;
     private final AppointmentRepository appointmentRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public UserInfoResponseDto getUserInfo(Long userId) {
@@ -66,15 +80,29 @@ public class UserDeleteService {
                 .orElseThrow(() -> new GeneralException(ErrorStatus.USER_NOT_FOUND));
 
         topicAnswerRepository.deleteAllByUserId(userId);
+        dailyParticipationRepository.deleteAllByUserId(userId);
         notificationRepository.deleteAllByUserId(userId);
         appointmentParticipantRepository.deleteAllByUserId(userId);
         familyJoinRequestRepository.deleteAllByUserId(userId);
         emitterRepository.deleteAllByUserId(userId);
+        eventReplayRepository.deleteAllByUserId(userId);
+        userClaimsRegistry.markWithdrawn(userId);
+        refreshTokenRepository.deleteAllByUserId(userId);
         appointmentRepository.deleteAllByProposeUser_Id(userId);
         bookshelfAnswerRepository.deleteAllByUserId(userId);
         bookshelfAnswerRepository.deleteAllByQuestionCreatedById(userId);
         bookshelfQuestionRepository.deleteAllByCreatedById(userId);
 
+        Family family = user.getFamily();
+        if (family != null) {
+            if (family.isLeader(userId)) {
+                family.changeLeader(userRepository.findFirstByFamilyIdAndIdNotOrderByCreatedAtAscIdAsc(family.getId(), userId)
+                        .map(User::getId)
+                        .orElse(null));
+            }
+            eventPublisher.publishEvent(new FamilyRosterChangedEvent(family.getId()));
+            bookshelfQuestionCatalog.evictCustomQuestions(family.getId());
+        }
         user.setFamily(null);
         userRepository.delete(user);
     }
@@ -1,5 +1,6 @@
 package com.seasonthon.everflow.app.user.service;
 
+import com.seasonthon.everflow.app.family.event.FamilyRosterChangedEvent;
 import com.seasonthon.everflow.app.global.code.status.ErrorStatus;
 import com.seasonthon.everflow.app.global.exception.GeneralException;
 import com.seasonthon.everflow.app.s3.service.S3Service;
@@ -8,6 +9,7 @@ import com.seasonthon.everflow.app.user.dto.UserNicknameUpdateDto;
 import com.seasonthon.everflow.app.user.dto.UserProfileImageResponseDto;
 import com.seasonthon.everflow.app.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -19,6 +21,7 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final S3Service s3Service;
+    private final ApplicationEventPublisher eventPublisher;
 
     public void updateNickname(Long userId, UserNicknameUpdateDto request) {
         User user = userRepository.findById(userId)
@@ -29,6 +32,7 @@ public class UserService {
         }
         user.updateNickname(trimmed);
         userRepository.save(user);
+        publishRosterChanged(user);
     }
 
     public UserProfileImageResponseDto updateProfileImage(Long userId, MultipartFile file) {
@@ -59,6 +63,14 @@ public class UserService {
 
         user.updateProfileUrl(newUrl);
         userRepository.save(user);
+        publishRosterChanged(user);
         return new UserProfileImageResponseDto(newUrl);
     }
+
+    /* 가족 구성원 목록 캐시에 닉네임/프로필 변경 반영 */
+    private void publishRosterChanged(User user) {
+        if (user.getFamily() != null) {
+            eventPublisher.publishEvent(new FamilyRosterChangedEvent(user.getFamily().getId()));
+        }
+    }
 }
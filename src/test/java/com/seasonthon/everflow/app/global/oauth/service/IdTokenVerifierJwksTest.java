@@ -0,0 +1,141 @@
+package com.seasonthon.everflow.app.global.oauth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.seasonthon.everflow.app.global.config.JwtConfig;
+import com.seasonthon.everflow.app.user.domain.SocialType;
+import com.sun.net.httpserver.HttpServer;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 로컬 HTTP JWKS 서버로 공급자 JWKS 엔드포인트를 대체해 JWK Set 캐시 동작을 확인한다.
+ * - 캐시 적중 시 JWKS를 다시 호출하지 않는다.
+ * - 모르는 kid(키 교체)면 JWK Set을 다시 받아 검증한다.
+ * - 만료 전에 백그라운드에서 미리 갱신(refresh-ahead)한다.
+ */
+class IdTokenVerifierJwksTest {
+
+    private static final String ISSUER = "https://accounts.google.com";
+
+    private HttpServer server;
+    private final AtomicReference<JWKSet> servedJwkSet = new AtomicReference<>();
+    private final AtomicInteger jwksRequests = new AtomicInteger();
+
+    private RSAKey oldKey;
+    private RSAKey newKey;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        oldKey = new RSAKeyGenerator(2048).keyID("old").generate();
+        newKey = new RSAKeyGenerator(2048).keyID("new").generate();
+        servedJwkSet.set(new JWKSet(oldKey.toPublicJWK()));
+
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/jwks", exchange -> {
+            jwksRequests.incrementAndGet();
+            byte[] body = servedJwkSet.get().toString().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void 캐시된_JWK_Set으로_반복_검증하고_JWKS는_한번만_호출한다() throws Exception {
+        IdTokenVerifier verifier = verifier(3_600_000, 300_000);
+
+        verifier.verify(sign(oldKey, "user-1"));
+        verifier.verify(sign(oldKey, "user-2"));
+        IdTokenVerifier.VerifiedIdToken verified = verifier.verify(sign(oldKey, "user-3"));
+
+        assertThat(verified.socialType()).isEqualTo(SocialType.GOOGLE);
+        assertThat(verified.claims().get("sub")).isEqualTo("user-3");
+        assertThat(jwksRequests.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 키가_교체되면_JWK_Set을_다시_받아_새_키로_검증한다() throws Exception {
+        IdTokenVerifier verifier = verifier(3_600_000, 300_000);
+        verifier.verify(sign(oldKey, "user-1"));
+
+        servedJwkSet.set(new JWKSet(newKey.toPublicJWK()));
+        IdTokenVerifier.VerifiedIdToken verified = verifier.verify(sign(newKey, "user-2"));
+
+        assertThat(verified.claims().get("sub")).isEqualTo("user-2");
+        assertThat(jwksRequests.get()).isEqualTo(2);
+    }
+
+    @Test
+    void 만료_전에_백그라운드에서_JWK_Set을_미리_갱신한다() throws Exception {
+        // TTL 3초, 만료 2초 전(=1초 후)에 갱신 예약 (refresh-ahead + refresh timeout은 TTL보다 작아야 함)
+        IdTokenVerifier verifier = verifier(3_000, 2_000);
+        verifier.prefetchJwkSets();
+        int afterPrefetch = jwksRequests.get();
+
+        servedJwkSet.set(new JWKSet(newKey.toPublicJWK()));
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(5);
+        while (jwksRequests.get() <= afterPrefetch && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(jwksRequests.get()).isGreaterThan(afterPrefetch);
+
+        // 로그인 요청 없이 갱신된 JWK Set으로 바로 검증 (추가 JWKS 호출 없음)
+        int beforeVerify = jwksRequests.get();
+        verifier.verify(sign(newKey, "user-1"));
+        assertThat(jwksRequests.get()).isEqualTo(beforeVerify);
+    }
+
+    private IdTokenVerifier verifier(long cacheTtl, long refreshAhead) throws Exception {
+        JwtConfig config = new JwtConfig();
+        ReflectionTestUtils.setField(config, "cacheTtl", cacheTtl);
+        ReflectionTestUtils.setField(config, "refreshAhead", refreshAhead);
+        ReflectionTestUtils.setField(config, "refreshTimeout", 500L);
+
+        String uri = "http://127.0.0.1:" + server.getAddress().getPort() + "/jwks";
+        JWKSource<SecurityContext> google = config.googleJwkSource(uri);
+        // 검증 대상은 Google 토큰이므로 나머지 공급자는 호출되지 않는 주소로 둔다.
+        JWKSource<SecurityContext> kakao = config.kakaoJwkSource("http://127.0.0.1:1/unused");
+        JWKSource<SecurityContext> apple = config.appleJwkSource("http://127.0.0.1:1/unused");
+        return new IdTokenVerifier(kakao, google, apple);
+    }
+
+    private static String sign(RSAKey key, String subject) throws JOSEException {
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .issuer(ISSUER)
+                .subject(subject)
+                .expirationTime(new Date(System.currentTimeMillis() + 60_000))
+                .build();
+        SignedJWT jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(key.getKeyID()).build(), claims);
+        jwt.sign(new RSASSASigner(key));
+        return jwt.serialize();
+    }
+}
@@ -0,0 +1,129 @@
+package com.seasonthon.everflow.app.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.seasonthon.everflow.app.notification.domain.NotificationType;
+import com.seasonthon.everflow.app.notification.dto.NotificationResponseDto;
+import com.seasonthon.everflow.app.notification.repository.EmitterRepository;
+import com.seasonthon.everflow.app.notification.repository.EventReplayRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * 한 노드의 RedisNotificationBroadcaster가 발행한 알림이
+ * 다른 노드의 NotificationRedisSubscriber를 거쳐 해당 노드의 Emitter로 전달되는지 확인한다.
+ * - Docker가 없는 환경에서는 건너뛴다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RedisNotificationFanOutTest {
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private LettuceConnectionFactory connectionFactory;
+    private RedisMessageListenerContainer listenerContainer;
+
+    // 발행 노드
+    private RedisNotificationBroadcaster broadcaster;
+    // 수신 노드
+    private EmitterRepository emitterRepository;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        StringRedisTemplate redisTemplate = new StringRedisTemplate(connectionFactory);
+        broadcaster = new RedisNotificationBroadcaster(redisTemplate, objectMapper);
+
+        listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(connectionFactory);
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        emitterRepository = new EmitterRepository(meterRegistry);
+        SseSender sseSender = new SseSender(emitterRepository, new EventReplayRepository(), objectMapper, meterRegistry);
+        new NotificationRedisSubscriber(listenerContainer, sseSender, objectMapper).subscribe();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        listenerContainer.destroy();
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void 다른_노드에서_발행한_알림이_구독_노드의_Emitter로_전달된다() throws Exception {
+        RecordingEmitter recipient = new RecordingEmitter();
+        RecordingEmitter other = new RecordingEmitter();
+        emitterRepository.save(1L, "1_1", recipient);
+        emitterRepository.save(10L, "10_1", other);
+
+        NotificationResponseDto.NotificationGetResponseDto payload =
+                NotificationResponseDto.NotificationGetResponseDto.of(
+                        42L, NotificationType.FAMILY_ACTION, "가족 가입 요청이 도착했습니다.", "/family");
+
+        String received = publishUntilReceived(1L, 42L, payload, recipient);
+
+        assertThat(received).isNotNull();
+        assertThat(received).contains("\"notificationId\":42");
+        assertThat(received).contains("가족 가입 요청이 도착했습니다.");
+        // userId 접두사가 같은 다른 사용자에게는 전달되지 않아야 함
+        assertThat(other.events.poll(200, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    /**
+     * 구독이 비동기로 수립되므로 수신될 때까지 짧은 간격으로 다시 발행한다.
+     */
+    private String publishUntilReceived(Long userId, Long eventId, Object payload, RecordingEmitter emitter)
+            throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (System.currentTimeMillis() < deadline) {
+            broadcaster.broadcast(userId, eventId, payload);
+            String received = emitter.events.poll(200, TimeUnit.MILLISECONDS);
+            if (received != null) {
+                return received;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 실제 HTTP 응답 없이 전송된 SSE 이벤트를 기록하는 Emitter
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final BlockingQueue<String> events = new LinkedBlockingQueue<>();
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            events.add(builder.build().stream()
+                    .map(part -> String.valueOf(part.getData()))
+                    .collect(Collectors.joining()));
+        }
+    }
+}
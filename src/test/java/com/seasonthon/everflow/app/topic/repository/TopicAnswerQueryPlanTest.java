@@ -0,0 +1,124 @@
+package com.seasonthon.everflow.app.topic.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * topic_answers 주요 조회가 의도한 인덱스를 타는지 EXPLAIN으로 확인한다. (H2 MySQL 호환 모드, Docker 불필요)
+ * - 스키마는 TopicAnswer의 @Index 매핑으로 생성되므로 인덱스 선언이 바뀌면 이 테스트가 깨진다.
+ * - 쿼리는 TopicAnswerRepository의 JPQL이 생성하는 SQL과 같은 조건으로 작성
+ * - 실제 MySQL 옵티마이저 판단(filesort 여부 등)은 다를 수 있으므로 인덱스 선택만 확인한다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class TopicAnswerQueryPlanTest {
+
+    private static final int FAMILIES = 50;
+    private static final int TOPICS = 40;
+    private static final int MEMBERS_PER_FAMILY = 4;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        // 조인 대상(users, topics) 없이 topic_answers 실행 계획만 확인하므로 참조 무결성 검사를 끈다.
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
+        jdbcTemplate.execute("DELETE FROM topic_answers");
+
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 0, 0);
+        List<Object[]> rows = new ArrayList<>();
+        for (long familyId = 1; familyId <= FAMILIES; familyId++) {
+            for (long topicId = 1; topicId <= TOPICS; topicId++) {
+                for (int member = 0; member < MEMBERS_PER_FAMILY; member++) {
+                    long userId = familyId * 100 + member;
+                    Timestamp at = Timestamp.valueOf(base.plusDays(topicId).plusMinutes(userId));
+                    rows.add(new Object[]{topicId, userId, familyId, "answer", at, at, at});
+                }
+            }
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO topic_answers (topic_id, user_id, family_id, content, created_at, updated_at, last_activity_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?)
+                """, rows);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    void 가족_답변_목록은_토픽_가족_활동시각_인덱스로_조회한다() {
+        String plan = explain("""
+                SELECT ta.id FROM topic_answers ta
+                WHERE ta.topic_id = 7 AND ta.family_id = 3
+                ORDER BY ta.last_activity_at DESC
+                """);
+
+        assertThat(plan).contains("idx_topic_answers_topic_family_activity");
+    }
+
+    @Test
+    void 가족_답변_버전은_토픽_가족_활동시각_인덱스로_계산한다() {
+        String plan = explain("""
+                SELECT MAX(ta.last_activity_at), COUNT(ta.id) FROM topic_answers ta
+                WHERE ta.topic_id = 7 AND ta.family_id = 3
+                """);
+
+        assertThat(plan).contains("idx_topic_answers_topic_family_activity");
+    }
+
+    @Test
+    void 가족이_답변한_토픽_수는_가족_인덱스로_계산한다() {
+        String plan = explain("""
+                SELECT COUNT(DISTINCT ta.topic_id) FROM topic_answers ta
+                WHERE ta.family_id = 3
+                """);
+
+        assertThat(plan).contains("idx_topic_answers_family_topic_user");
+    }
+
+    @Test
+    void 가족_구성원별_답변_수는_가족_인덱스로_집계한다() {
+        String plan = explain("""
+                SELECT ta.user_id, COUNT(ta.id) FROM topic_answers ta
+                WHERE ta.family_id = 3
+                GROUP BY ta.user_id
+                """);
+
+        assertThat(plan).contains("idx_topic_answers_family_topic_user");
+    }
+
+    @Test
+    void 사용자_답변_수는_사용자_인덱스로_조회한다() {
+        String plan = explain("""
+                SELECT COUNT(ta.id) FROM topic_answers ta
+                WHERE ta.user_id = 305
+                """);
+
+        assertThat(plan).contains("idx_topic_answers_user_topic");
+    }
+
+    @Test
+    void 쓰지_않는_인덱스는_선언하지_않는다() {
+        List<String> indexes = jdbcTemplate.queryForList("""
+                SELECT LOWER(index_name) FROM information_schema.indexes
+                WHERE LOWER(table_name) = 'topic_answers'
+                """, String.class);
+
+        assertThat(indexes).doesNotContain("idx_topic_answers_family_created", "idx_topic_answers_user_created");
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class).toLowerCase();
+    }
+}